@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.search.IReferenceCollection;
 import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
 import org.eclipse.pde.api.tools.internal.search.UseScanManager;
+import org.eclipse.pde.api.tools.internal.search.UseScanReferences;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Before;
 import org.junit.Test;
@@ -110,33 +111,50 @@ public class ReferenceCountTests {
 		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
 	}
 
+	/**
+	 * Tests that the use scan cache evicts the least recently used references
+	 * once their size in bytes exceeds the cache size
+	 */
 	@Test
 	public void testCacheSize() {
 		fUseScanManager.clearCache();
-		fUseScanManager.setCacheSize(15);
+		fUseScanManager.setCacheSize(UseScanManager.DEFAULT_CACHE_SIZE);
 
 		String reportLocation = ExternalDependencyTestUtils.setupReport("PDEApiUseScanReport", true); //$NON-NLS-1$
 		if (reportLocation == null) {
 			fail("Could not setup the report : PDEApiUseScanReport.zip"); //$NON-NLS-1$
 		}
-		IApiComponent apiComponent = TestSuiteHelper.createTestingApiComponent("org.eclipse.equinox.app", "org.eclipse.equinox.app", new ApiDescription(null)); //$NON-NLS-1$ //$NON-NLS-2$
-
-		IReferenceDescriptor[] dependencies = fUseScanManager.getExternalDependenciesFor(apiComponent, null, null);
+		IApiComponent appComponent = TestSuiteHelper.createTestingApiComponent("org.eclipse.equinox.app", "org.eclipse.equinox.app", new ApiDescription(null)); //$NON-NLS-1$ //$NON-NLS-2$
+		IReferenceDescriptor[] dependencies = fUseScanManager.getExternalDependenciesFor(appComponent, null, null);
 		assertEquals("Incorrect number of references for org.eclipse.equinox.app", 13, dependencies.length); //$NON-NLS-1$
+		IReferenceCollection appRefs = appComponent.getExternalDependencies();
+		int appSize = ((UseScanReferences) appRefs).getCacheFootprint();
 
-		IReferenceCollection useScanRefs =  apiComponent.getExternalDependencies();
-		assertTrue("References for org.eclipse.equinox.app.IApplication not found in cache",  //$NON-NLS-1$
-				useScanRefs.hasReferencesTo("org.eclipse.equinox.app.IApplication")); //$NON-NLS-1$
-
-		apiComponent = TestSuiteHelper.createTestingApiComponent("org.eclipse.equinox.p2.operations", "org.eclipse.equinox.p2.operations", new ApiDescription(null)); //$NON-NLS-1$ //$NON-NLS-2$
-		dependencies = fUseScanManager.getExternalDependenciesFor(apiComponent, null, null);
+		IApiComponent operationsComponent = TestSuiteHelper.createTestingApiComponent("org.eclipse.equinox.p2.operations", "org.eclipse.equinox.p2.operations", new ApiDescription(null)); //$NON-NLS-1$ //$NON-NLS-2$
+		dependencies = fUseScanManager.getExternalDependenciesFor(operationsComponent, null, null);
 		assertEquals("Incorrect number of references for org.eclipse.equinox.p2.operations", 17, dependencies.length); //$NON-NLS-1$
+		IReferenceCollection operationsRefs = operationsComponent.getExternalDependencies();
+		int operationsSize = ((UseScanReferences) operationsRefs).getCacheFootprint();
 
-		useScanRefs =  apiComponent.getExternalDependencies();
-		assertTrue("References for org.eclipse.equinox.p2.operations.InstallOperation not found in cache", //$NON-NLS-1$
-				useScanRefs.hasReferencesTo("org.eclipse.equinox.p2.operations.InstallOperation")); //$NON-NLS-1$
+		assertTrue("References should have a size in bytes", appSize > 0 && operationsSize > 0); //$NON-NLS-1$
+		assertTrue("References for org.eclipse.equinox.app.IApplication should be kept within the cache size", //$NON-NLS-1$
+				appRefs.hasReferencesTo("org.eclipse.equinox.app.IApplication")); //$NON-NLS-1$
+
+		// the references of both components no longer fit in the cache
+		fUseScanManager.clearCache();
+		fUseScanManager.setCacheSize(Math.max(appSize, operationsSize));
 
+		fUseScanManager.getExternalDependenciesFor(appComponent, null, null);
+		assertTrue("References for org.eclipse.equinox.app.IApplication not found in cache", //$NON-NLS-1$
+				appRefs.hasReferencesTo("org.eclipse.equinox.app.IApplication")); //$NON-NLS-1$
+
+		fUseScanManager.getExternalDependenciesFor(operationsComponent, null, null);
+		assertTrue("References for org.eclipse.equinox.p2.operations.InstallOperation not found in cache", //$NON-NLS-1$
+				operationsRefs.hasReferencesTo("org.eclipse.equinox.p2.operations.InstallOperation")); //$NON-NLS-1$
 		assertFalse("References for org.eclipse.equinox.app.IApplication should have been purged from the cache", //$NON-NLS-1$
-				useScanRefs.hasReferencesTo("org.eclipse.equinox.app.IApplication")); //$NON-NLS-1$
+				appRefs.hasReferencesTo("org.eclipse.equinox.app.IApplication")); //$NON-NLS-1$
+
+		fUseScanManager.clearCache();
+		fUseScanManager.setCacheSize(UseScanManager.DEFAULT_CACHE_SIZE);
 	}
 }
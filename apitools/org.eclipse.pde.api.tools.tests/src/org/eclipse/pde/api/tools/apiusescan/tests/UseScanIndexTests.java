@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.apiusescan.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Set;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.Test;
+
+/**
+ * Tests the index of the report files of archived API use scans
+ */
+public class UseScanIndexTests {
+
+	static final String COMPONENT = "tests.apiusescan.coretestproject"; //$NON-NLS-1$
+	static final String ICONSTANTS = "tests.apiusescan.coretestproject.IConstants"; //$NON-NLS-1$
+	static final String CLASS_WITH_INNER_TYPE = "tests.apiusescan.coretestproject.ClassWithInnerType"; //$NON-NLS-1$
+
+	private UseScanIndex createIndex() throws Exception {
+		File report = TestSuiteHelper.getPluginDirectoryPath().append("test-apiusescan/reports/reportAll.zip").toFile(); //$NON-NLS-1$
+		try (ZipFile archive = new ZipFile(report)) {
+			return UseScanIndex.create(archive, new NullProgressMonitor());
+		}
+	}
+
+	/**
+	 * Tests that the report files are indexed by referenced component and type
+	 */
+	@Test
+	public void testIndexedEntries() throws Exception {
+		UseScanIndex index = createIndex();
+		assertFalse("The report files should be indexed", index.isEmpty()); //$NON-NLS-1$
+		Set<String> all = index.getEntries(COMPONENT, null);
+		assertEquals("Wrong number of report files", 6, all.size()); //$NON-NLS-1$
+		Set<String> constants = index.getEntries(COMPONENT, new String[] { ICONSTANTS });
+		assertEquals("Wrong number of report files for IConstants", 2, constants.size()); //$NON-NLS-1$
+		for (String entry : constants) {
+			assertTrue("IConstants is only referenced by fields", entry.endsWith("field_references.xml")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		// references to member types are indexed for their top level type
+		Set<String> inner = index.getEntries(COMPONENT, new String[] { CLASS_WITH_INNER_TYPE });
+		assertEquals("Wrong number of report files for ClassWithInnerType", 2, inner.size()); //$NON-NLS-1$
+		assertEquals("Wrong number of report files for both types", 4, index.getEntries(COMPONENT, new String[] { //$NON-NLS-1$
+				ICONSTANTS, CLASS_WITH_INNER_TYPE }).size());
+		assertTrue("No report file references an unknown component", index.getEntries("unknown", null).isEmpty()); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("All components should be searched without an id", all, index.getEntries(null, null)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the index is saved and restored
+	 */
+	@Test
+	public void testPersistence() throws Exception {
+		UseScanIndex index = createIndex();
+		File file = File.createTempFile("usescan", ".index"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			index.write(file);
+			UseScanIndex read = UseScanIndex.read(file);
+			assertNotNull("The index should be read", read); //$NON-NLS-1$
+			assertEquals(index.getEntries(COMPONENT, null), read.getEntries(COMPONENT, null));
+			assertEquals(index.getEntries(COMPONENT, new String[] { ICONSTANTS }), read.getEntries(COMPONENT, new String[] { ICONSTANTS }));
+		} finally {
+			file.delete();
+		}
+	}
+}
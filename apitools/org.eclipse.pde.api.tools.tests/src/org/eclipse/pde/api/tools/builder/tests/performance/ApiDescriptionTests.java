@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,11 @@ package org.eclipse.pde.api.tools.builder.tests.performance;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -83,4 +88,43 @@ public class ApiDescriptionTests extends PerformanceTest {
 		commitMeasurements();
 		assertPerformance();
 	}
+
+	/**
+	 * Tests restoring the persisted API description of the jdt-ui source
+	 * project and visiting it.
+	 */
+	public void testRestoreVisit() throws Exception {
+		tagAsSummary("Restore persisted API description", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+
+		// WARM-UP
+		IProject proj = getEnv().getWorkspace().getRoot().getProject("org.eclipse.jdt.ui"); //$NON-NLS-1$
+		IJavaProject javaProject = JavaCore.create(proj);
+		ApiDescriptionVisitor visitor = new ApiDescriptionVisitor() {
+		};
+		ApiDescriptionManager manager = ApiDescriptionManager.getManager();
+		proj.build(IncrementalProjectBuilder.CLEAN_BUILD, ApiPlugin.BUILDER_ID, null, null);
+		IApiBaseline baseline = ApiPlugin.getDefault().getApiBaselineManager().getWorkspaceBaseline();
+		ProjectComponent component = (ProjectComponent) baseline.getApiComponent(proj);
+		component.getApiDescription().accept(visitor, null);
+		// persist the populated description
+		ResourcesPlugin.getWorkspace().save(true, null);
+		for (int j = 0; j < 2; j++) {
+			manager.clean(javaProject, false, true);
+			manager.getApiDescription(component, component.getBundleDescription()).accept(visitor, null);
+		}
+
+		// TEST
+		for (int j = 0; j < 15; j++) {
+			// *** drop the cached API description ***
+			manager.clean(javaProject, false, true);
+
+			// ** Restore and visit API description ***
+			startMeasuring();
+			manager.getApiDescription(component, component.getBundleDescription()).accept(visitor, null);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
 }
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import org.eclipse.jdt.internal.core.util.LRUCache;
+import org.eclipse.pde.api.tools.internal.StripedOverflowingLRUCache;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Multi-threaded micro benchmark comparing the
+ * {@link SynchronizedOverflowingLRUCache} with the
+ * {@link StripedOverflowingLRUCache} under the mostly-read access pattern of
+ * the API model cache.
+ */
+public class CacheContentionTests extends PerformanceTestCase {
+
+	static final int CACHE_SIZE = 2000;
+	static final int KEY_COUNT = 4000;
+	static final int OPERATIONS = 200000;
+	static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+	static final String[] KEYS = new String[KEY_COUNT];
+	static {
+		for (int i = 0; i < KEY_COUNT; i++) {
+			KEYS[i] = "org.eclipse.test.Type" + i;
+		}
+	}
+
+	static class SynchronizedCache extends SynchronizedOverflowingLRUCache<String, Object> {
+		SynchronizedCache(int size) {
+			super(size, size / 10);
+		}
+
+		@Override
+		protected boolean close(LRUCacheEntry<String, Object> entry) {
+			return true;
+		}
+
+		@Override
+		protected LRUCache<String, Object> newInstance(int size, int newOverflow) {
+			return new SynchronizedCache(size);
+		}
+	}
+
+	static class StripedCache extends StripedOverflowingLRUCache<String, Object> {
+		StripedCache(int size) {
+			super(size, size / 10);
+		}
+
+		@Override
+		protected boolean close(String key, Object value) {
+			return true;
+		}
+	}
+
+	public CacheContentionTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(CacheContentionTests.class);
+	}
+
+	public void testSynchronizedCache() throws Exception {
+		tagAsSummary("Synchronized LRU cache contention", Dimension.ELAPSED_PROCESS);
+		SynchronizedCache cache = new SynchronizedCache(CACHE_SIZE);
+		runContention(cache::get, cache::put);
+	}
+
+	public void testStripedCache() throws Exception {
+		tagAsSummary("Striped LRU cache contention", Dimension.ELAPSED_PROCESS);
+		StripedCache cache = new StripedCache(CACHE_SIZE);
+		runContention(cache::get, cache::put);
+	}
+
+	interface Put {
+		void put(String key, Object value);
+	}
+
+	/**
+	 * Runs {@link #THREADS} threads concurrently, each doing
+	 * {@link #OPERATIONS} lookups on a skewed key distribution, caching the
+	 * value on a miss
+	 */
+	private void runContention(Function<String, Object> get, Put put) throws Exception {
+		Runnable worker = () -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			for (int i = 0; i < OPERATIONS; i++) {
+				// squaring favors low keys, so most lookups are hits
+				double r = random.nextDouble();
+				String key = KEYS[(int) (r * r * KEY_COUNT)];
+				if (get.apply(key) == null) {
+					put.put(key, key);
+				}
+			}
+		};
+		for (int run = 0; run < 10; run++) {
+			Thread[] threads = new Thread[THREADS];
+			CountDownLatch start = new CountDownLatch(1);
+			for (int t = 0; t < THREADS; t++) {
+				threads[t] = new Thread(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					worker.run();
+				}, "Cache contention " + t);
+				threads[t].start();
+			}
+			startMeasuring();
+			start.countDown();
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
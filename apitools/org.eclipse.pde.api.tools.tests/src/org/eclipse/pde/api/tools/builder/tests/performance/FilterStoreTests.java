@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.pde.api.tools.internal.ApiFilterStore;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Measures how fast the {@link ApiFilterStore} tells whether problems are
+ * filtered, for a project with thousands of filters
+ */
+public class FilterStoreTests extends PerformanceTestCase {
+
+	static final int TYPE_COUNT = 200;
+	static final int FILTERS_PER_TYPE = 20;
+
+	IProject fProject;
+	ApiFilterStore fStore;
+	IApiProblem[] fProblems;
+
+	public FilterStoreTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(FilterStoreTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IJavaProject jproject = ProjectUtils.createJavaProject("filterstore.perf", null); //$NON-NLS-1$
+		fProject = jproject.getProject();
+		IFolder folder = fProject.getFolder("src"); //$NON-NLS-1$
+		if (!folder.exists()) {
+			folder.create(true, true, null);
+		}
+		fStore = new ApiFilterStore(jproject);
+		IApiProblem[] filtered = new IApiProblem[TYPE_COUNT * FILTERS_PER_TYPE];
+		// the same number of problems that are not filtered
+		fProblems = new IApiProblem[filtered.length * 2];
+		for (int i = 0; i < TYPE_COUNT; i++) {
+			String typeName = "p.Type" + i; //$NON-NLS-1$
+			String path = "src/Type" + i + ".java"; //$NON-NLS-1$ //$NON-NLS-2$
+			fProject.getFile(path).create(new ByteArrayInputStream(new byte[0]), true, null);
+			for (int j = 0; j < FILTERS_PER_TYPE; j++) {
+				int index = i * FILTERS_PER_TYPE + j;
+				filtered[index] = newProblem(path, typeName, "m" + j); //$NON-NLS-1$
+				fProblems[2 * index] = newProblem(path, typeName, "m" + j); //$NON-NLS-1$
+				fProblems[2 * index + 1] = newProblem(path, typeName, "other" + j); //$NON-NLS-1$
+			}
+		}
+		fStore.addFiltersFor(filtered);
+	}
+
+	private static IApiProblem newProblem(String path, String typeName, String member) {
+		return ApiProblemFactory.newApiUsageProblem(path, typeName, new String[] {
+				typeName, member }, null, null, -1, -1, -1, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fStore.dispose();
+		fProject.delete(true, true, null);
+		super.tearDown();
+	}
+
+	public void testIsFiltered() throws Exception {
+		tagAsSummary("API filter store lookup", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		for (int run = 0; run < 10; run++) {
+			int count = 0;
+			startMeasuring();
+			for (int i = 0; i < 10; i++) {
+				for (IApiProblem problem : fProblems) {
+					if (fStore.isFiltered(problem)) {
+						count++;
+					}
+				}
+			}
+			stopMeasuring();
+			assertEquals("Wrong number of filtered problems", 10 * fProblems.length / 2, count); //$NON-NLS-1$
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
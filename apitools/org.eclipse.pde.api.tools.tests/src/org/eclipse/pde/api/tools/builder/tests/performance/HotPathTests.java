@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Micro benchmarks of the hot paths of the API analysis: reference extraction
+ * and resolution, class file comparison and API description lookups. Unlike
+ * the build tests they need no workspace, they run against the class files of
+ * the bundles checked into the <code>test-plugins</code>,
+ * <code>test-analyzer-1</code> and <code>test-analyzer-2</code> folders of
+ * this plug-in.
+ */
+public class HotPathTests extends PerformanceTestCase {
+
+	static final int RUNS = 10;
+	static final int WARMUP_RUNS = 3;
+	static final int ITERATIONS = 50;
+
+	IApiBaseline fBaseline;
+
+	public HotPathTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(HotPathTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fBaseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		assertNotNull("the testing baseline should exist", fBaseline); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fBaseline != null) {
+			fBaseline.dispose();
+		}
+		super.tearDown();
+	}
+
+	interface Operation {
+		void run() throws CoreException;
+	}
+
+	/**
+	 * Extracts all references of all the types of the testing baseline
+	 */
+	public void testReferenceExtraction() throws Exception {
+		tagAsSummary("Reference extraction", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		List<IApiType> types = collectTypes(fBaseline);
+		measure(() -> {
+			for (IApiType type : types) {
+				type.extractReferences(IReference.MASK_REF_ALL, null);
+			}
+		});
+	}
+
+	/**
+	 * Resolves all references of all the types of the testing baseline, with
+	 * an empty resolution cache
+	 */
+	public void testReferenceResolution() throws Exception {
+		tagAsSummary("Reference resolution", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		List<IApiType> types = collectTypes(fBaseline);
+		for (int run = 0; run < WARMUP_RUNS + RUNS; run++) {
+			List<List<IReference>> references = new ArrayList<>(ITERATIONS);
+			for (int i = 0; i < ITERATIONS; i++) {
+				List<IReference> refs = new ArrayList<>();
+				for (IApiType type : types) {
+					refs.addAll(type.extractReferences(IReference.MASK_REF_ALL, null));
+				}
+				references.add(refs);
+			}
+			if (run >= WARMUP_RUNS) {
+				startMeasuring();
+			}
+			for (List<IReference> refs : references) {
+				((ApiBaseline) fBaseline).getReferenceResolutionCache().clear();
+				ReferenceResolver.resolveReferences(refs);
+			}
+			if (run >= WARMUP_RUNS) {
+				stopMeasuring();
+			}
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Looks up the API annotations of all the types, methods and fields of the
+	 * testing baseline
+	 */
+	public void testApiDescriptionLookup() throws Exception {
+		tagAsSummary("API description lookup", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		List<IApiType> types = collectTypes(fBaseline);
+		measure(() -> {
+			for (IApiType type : types) {
+				IApiDescription description = type.getApiComponent().getApiDescription();
+				description.resolveAnnotations(type.getHandle());
+				for (IApiMethod method : type.getMethods()) {
+					description.resolveAnnotations(method.getHandle());
+				}
+				for (IApiField field : type.getFields()) {
+					description.resolveAnnotations(field.getHandle());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Compares the class files of two versions of a bundle, which also
+	 * decodes their generic signatures
+	 */
+	public void testClassFileComparison() throws Exception {
+		tagAsSummary("Class file comparison", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		IApiBaseline reference = TestSuiteHelper.createTestingBaseline("reference", IPath.fromOSString("test-analyzer-1")); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("baseline", IPath.fromOSString("test-analyzer-2")); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			IApiComponent component = reference.getApiComponent("test.bundle.a"); //$NON-NLS-1$
+			IApiComponent component2 = baseline.getApiComponent("test.bundle.a"); //$NON-NLS-1$
+			assertNotNull("no api component", component); //$NON-NLS-1$
+			assertNotNull("no api component", component2); //$NON-NLS-1$
+			List<IApiTypeRoot[]> pairs = new ArrayList<>();
+			for (IApiType type : collectTypes(component)) {
+				IApiTypeRoot root2 = component2.findTypeRoot(type.getName());
+				if (root2 != null) {
+					pairs.add(new IApiTypeRoot[] { type.getTypeRoot(), root2 });
+				}
+			}
+			assertFalse("no class files to compare", pairs.isEmpty()); //$NON-NLS-1$
+			measure(() -> {
+				for (IApiTypeRoot[] pair : pairs) {
+					new ClassFileComparator(pair[0], pair[1], component, component2, reference, baseline, VisibilityModifiers.ALL_VISIBILITIES).getDelta();
+				}
+			});
+		} finally {
+			reference.dispose();
+			baseline.dispose();
+		}
+	}
+
+	/**
+	 * Runs the given operation {@link #ITERATIONS} times per run, measuring
+	 * {@link #RUNS} runs after {@link #WARMUP_RUNS} runs
+	 */
+	private void measure(Operation operation) throws Exception {
+		for (int run = 0; run < WARMUP_RUNS + RUNS; run++) {
+			if (run >= WARMUP_RUNS) {
+				startMeasuring();
+			}
+			for (int i = 0; i < ITERATIONS; i++) {
+				operation.run();
+			}
+			if (run >= WARMUP_RUNS) {
+				stopMeasuring();
+			}
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static List<IApiType> collectTypes(IApiBaseline baseline) throws CoreException {
+		List<IApiType> types = new ArrayList<>();
+		for (IApiComponent component : baseline.getApiComponents()) {
+			if (!component.isSystemComponent() && component.getLocation() != null
+					&& component.getLocation().contains("test-plugins")) { //$NON-NLS-1$
+				types.addAll(collectTypes(component));
+			}
+		}
+		assertFalse("no types in the testing baseline", types.isEmpty()); //$NON-NLS-1$
+		return types;
+	}
+
+	private static List<IApiType> collectTypes(IApiComponent component) throws CoreException {
+		List<IApiType> types = new ArrayList<>();
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				try {
+					types.add(typeroot.getStructure());
+				} catch (CoreException e) {
+					fail(e.getMessage());
+				}
+			}
+		});
+		return types;
+	}
+}
@@ -11,7 +11,7 @@
  * Contributors:
  *     Andrey Loskutov (loskutov@gmx.de) - initial API and implementation
  *******************************************************************************/
-package org.eclipse.pde.api.tools.internal;
+package org.eclipse.pde.api.tools.builder.tests.performance;
 
 import java.util.Collections;
 import java.util.Enumeration;
@@ -21,7 +21,9 @@ import org.eclipse.jdt.internal.core.OverflowingLRUCache;
 
 /**
  * The partly synchronized variant of {@link OverflowingLRUCache}. Only
- * public/protected methods overridden in this class are synchronized.
+ * public/protected methods overridden in this class are synchronized. Formerly
+ * used by the API model cache, kept as the baseline of
+ * {@link CacheContentionTests}.
  */
 public abstract class SynchronizedOverflowingLRUCache<K, V> extends OverflowingLRUCache<K, V> {
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,17 +27,24 @@ import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
+import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.ReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseScanReferences;
 import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.test.performance.Dimension;
 import org.eclipse.test.performance.PerformanceTestCase;
 
 import junit.framework.Test;
@@ -123,6 +130,39 @@ public class UseScanTests extends PerformanceTestCase {
 		assertPerformance();
 	}
 
+	/**
+	 * Measures the heap used by one million references held in
+	 * {@link UseScanReferences}, as read from a use scan of 50 components
+	 * referencing 2000 types of a single component.
+	 */
+	public void testReferenceCollectionMemory() throws Exception {
+		tagAsSummary("Use scan references memory", Dimension.USED_JAVA_HEAP); //$NON-NLS-1$
+		final int count = 1000000;
+		IComponentDescriptor to = Factory.componentDescriptor("org.eclipse.core.runtime", "3.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		IComponentDescriptor[] from = new IComponentDescriptor[50];
+		for (int i = 0; i < from.length; i++) {
+			from[i] = Factory.componentDescriptor("org.eclipse.client" + i, "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			startMeasuring();
+			UseScanReferences references = new UseScanReferences();
+			for (int j = 0; j < count; j++) {
+				String type = "org.eclipse.core.runtime.Type" + (j % 2000); //$NON-NLS-1$
+				IMemberDescriptor target = Factory.methodDescriptor(type, "method" + (j % 7), "()V"); //$NON-NLS-1$ //$NON-NLS-2$
+				IMemberDescriptor origin = Factory.methodDescriptor("org.eclipse.client.Caller" + (j % 5000), "run", "()V"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				IReferenceDescriptor reference = new ReferenceDescriptor(from[j % from.length], origin, j, to, target, 1, 0, 1, null);
+				references.add(type, reference);
+			}
+			System.gc();
+			stopMeasuring();
+			assertEquals("Wrong number of references", count, references.size()); //$NON-NLS-1$
+			System.out.println("Use scan references: " + references.getSizeInBytes() + " bytes estimated per million references"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	private IApiBaseline createBaseline(ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, "", 10); //$NON-NLS-1$
 		definition.resolve(localmonitor.split(2));
@@ -578,4 +578,24 @@ public class BundlesDeltaTests extends DeltaTestSetup {
 		assertNotNull("No delta", delta); //$NON-NLS-1$
 		assertFalse("Equals to NO_DELTA", delta == ApiComparator.NO_DELTA); //$NON-NLS-1$
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Comparing the components of two baselines concurrently must report the
+	 * same deltas as the sequential comparison
+	 */
+	@Test
+	public void test17() {
+		deployBundles("test1"); //$NON-NLS-1$
+		IDelta sequential = ApiComparator.compare(getBeforeState(), getAfterState(), VisibilityModifiers.ALL_VISIBILITIES, false, null);
+		IDelta parallel = ApiComparator.compareConcurrently(getBeforeState(), getAfterState(), VisibilityModifiers.ALL_VISIBILITIES, false, null);
+		assertNotNull("No delta", parallel); //$NON-NLS-1$
+		IDelta[] expected = collectLeaves(sequential);
+		IDelta[] actual = collectLeaves(parallel);
+		assertEquals("Wrong size", expected.length, actual.length); //$NON-NLS-1$
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals("Wrong kind", expected[i].getKind(), actual[i].getKind()); //$NON-NLS-1$
+			assertEquals("Wrong flag", expected[i].getFlags(), actual[i].getFlags()); //$NON-NLS-1$
+			assertEquals("Wrong key", expected[i].getKey(), actual[i].getKey()); //$NON-NLS-1$
+		}
+	}
+}
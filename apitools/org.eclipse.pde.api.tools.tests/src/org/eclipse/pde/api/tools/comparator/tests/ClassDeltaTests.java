@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,13 @@ package org.eclipse.pde.api.tools.comparator.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ApiDigestIndex;
 import org.eclipse.pde.api.tools.internal.comparator.DeltaXmlVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
@@ -3903,4 +3906,26 @@ public class ClassDeltaTests extends DeltaTestSetup {
 		assertTrue("Not compatible", DeltaProcessor.isCompatible(child)); //$NON-NLS-1$
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Identical class files are not compared
+	 */
+	@Test
+	public void testIdenticalClassFiles() {
+		deployBundle("test1", BEFORE); //$NON-NLS-1$
+		IApiBaseline reference = getBeforeState();
+		try {
+			IApiBaseline baseline = getBeforeState();
+			IApiComponent referenceApiComponent = reference.getApiComponent(BUNDLE_NAME);
+			assertNotNull("no api component", referenceApiComponent); //$NON-NLS-1$
+			IApiComponent apiComponent = baseline.getApiComponent(BUNDLE_NAME);
+			assertNotNull("no api component", apiComponent); //$NON-NLS-1$
+			ApiDigestIndex index = ApiBaselineManager.getManager().getDigestIndex();
+			int skipped = index.getSkippedTypeCount();
+			IDelta delta = ApiComparator.compare(referenceApiComponent, apiComponent, reference, baseline, VisibilityModifiers.ALL_VISIBILITIES, null);
+			assertSame("Should be no delta", ApiComparator.NO_DELTA, delta); //$NON-NLS-1$
+			assertTrue("The identical class file should have been skipped", index.getSkippedTypeCount() > skipped); //$NON-NLS-1$
+		} finally {
+			reference.dispose();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -103,6 +104,24 @@ public class ApiBaselineTests {
 		assertEquals("Wrong provider for package", fBaseline.getApiComponent(COMPONENT_A), components[0]); //$NON-NLS-1$
 	}
 
+	/**
+	 * Resolves packages again once the per package cache is cleared, the
+	 * providers then come from the visible package index
+	 */
+	@Test
+	public void testResolvePackageFromIndex() throws CoreException {
+		assertNotNull("the testing baseline should exist", fBaseline); //$NON-NLS-1$
+		IApiComponent component = fBaseline.getApiComponent(COMPONENT_B);
+		IApiComponent[] components = fBaseline.resolvePackage(component, COMPONENT_A);
+		assertEquals("Wrong size", 1, components.length); //$NON-NLS-1$
+		((ApiBaseline) fBaseline).clearPackage(COMPONENT_A);
+		components = fBaseline.resolvePackage(component, COMPONENT_A);
+		assertEquals("Wrong size", 1, components.length); //$NON-NLS-1$
+		assertEquals("Wrong provider for package", fBaseline.getApiComponent(COMPONENT_A), components[0]); //$NON-NLS-1$
+		components = fBaseline.resolvePackage(component, "not.a.visible.pkg"); //$NON-NLS-1$
+		assertEquals("Should be no provider", 0, components.length); //$NON-NLS-1$
+	}
+
 	/**
 	 * Resolves a system package
 	 */
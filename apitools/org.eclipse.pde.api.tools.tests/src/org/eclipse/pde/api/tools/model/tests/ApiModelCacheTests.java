@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,24 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+
+import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.junit.After;
 import org.junit.Test;
@@ -160,4 +171,43 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that byte identical class files of different components share
+	 * their parsed type structure, while each component gets its own type,
+	 * methods and fields
+	 */
+	@Test
+	public void testSharedTypeStructure() throws Exception {
+		byte[] bytes = Files.readAllBytes(TestSuiteHelper.getPluginDirectoryPath().append("test-classes/a/b/c/TestMethod10.class").toPath()); //$NON-NLS-1$
+		IApiComponent component1 = TestSuiteHelper.createTestingApiComponent("comp1", "comp1", new ApiDescription(null)); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiComponent component2 = TestSuiteHelper.createTestingApiComponent("comp2", "comp2", new ApiDescription(null)); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiType type1 = TypeStructureBuilder.buildTypeStructure(bytes, component1, null);
+		IApiType type2 = TypeStructureBuilder.buildTypeStructure(bytes.clone(), component2, null);
+		assertNotNull(type1);
+		assertNotNull(type2);
+		assertNotSame("Each component should get its own type", type1, type2); //$NON-NLS-1$
+		assertSame(component1, type1.getApiComponent());
+		assertSame(component2, type2.getApiComponent());
+		assertEquals(type1.getName(), type2.getName());
+		assertSame("The names should be shared", type1.getSignature(), type2.getSignature()); //$NON-NLS-1$
+		assertEquals(type1.getSuperclassName(), type2.getSuperclassName());
+		assertEquals(type1.getMethods().length, type2.getMethods().length);
+		assertEquals(type1.getFields().length, type2.getFields().length);
+		IApiMethod[] methods1 = type1.getMethods();
+		IApiMethod[] methods2 = type2.getMethods();
+		for (int i = 0; i < methods1.length; i++) {
+			assertNotSame(methods1[i], methods2[i]);
+			assertEquals(methods1[i].getName(), methods2[i].getName());
+			assertSame("The signatures should be shared", methods1[i].getSignature(), methods2[i].getSignature()); //$NON-NLS-1$
+			assertEquals(methods1[i].getModifiers(), methods2[i].getModifiers());
+			assertArrayEquals(methods1[i].getExceptionNames(), methods2[i].getExceptionNames());
+			assertSame(type1, methods1[i].getEnclosingType());
+			assertSame(type2, methods2[i].getEnclosingType());
+		}
+		IApiField[] fields2 = type2.getFields();
+		for (IApiField field : fields2) {
+			assertSame(type2, field.getEnclosingType());
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -27,6 +29,7 @@ import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
@@ -67,6 +70,23 @@ public class ApiTypeContainerTests {
 		return new DirectoryApiTypeContainer(null, path.toOSString());
 	}
 
+	/**
+	 * Tests that class file contents of an archive can still be read after the
+	 * archive has been closed, and that they are the same as before.
+	 */
+	@Test
+	public void testArchiveContentsAfterClose() throws CoreException {
+		IApiTypeContainer container = buildArchiveContainer();
+		AbstractApiTypeRoot root = (AbstractApiTypeRoot) container.findTypeRoot("a.b.c.ClassC"); //$NON-NLS-1$
+		assertNotNull("Missing type root", root); //$NON-NLS-1$
+		byte[] contents = root.getContents();
+		assertNotNull("Missing contents", contents); //$NON-NLS-1$
+		container.close();
+		root = (AbstractApiTypeRoot) container.findTypeRoot("a.b.c.ClassC"); //$NON-NLS-1$
+		assertArrayEquals("Contents changed", contents, root.getContents()); //$NON-NLS-1$
+		container.close();
+	}
+
 	/**
 	 * Tests retrieving package names from an archive.
 	 */
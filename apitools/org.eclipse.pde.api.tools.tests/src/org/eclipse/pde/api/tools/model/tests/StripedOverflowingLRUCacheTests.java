@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.pde.api.tools.internal.StripedOverflowingLRUCache;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedOverflowingLRUCache}
+ */
+public class StripedOverflowingLRUCacheTests {
+
+	static class TestCache extends StripedOverflowingLRUCache<String, String> {
+		final Set<String> pinned = new HashSet<>();
+		final Set<String> closed = new HashSet<>();
+
+		TestCache(int size) {
+			super(size);
+		}
+
+		TestCache(int size, boolean weighted) {
+			super(size, 0, weighted);
+		}
+
+		@Override
+		protected int spaceFor(String value) {
+			return value.length();
+		}
+
+		@Override
+		protected boolean close(String key, String value) {
+			if (pinned.contains(key)) {
+				return false;
+			}
+			closed.add(key);
+			return true;
+		}
+	}
+
+	/**
+	 * Tests that the least recently used entry is evicted and closed
+	 */
+	@Test
+	public void testEvictLeastRecentlyUsed() {
+		TestCache cache = new TestCache(3);
+		cache.put("a", "a");
+		cache.put("b", "b");
+		cache.put("c", "c");
+		assertNotNull(cache.get("a"));
+		cache.put("d", "d");
+		assertNull("b should have been evicted", cache.get("b"));
+		assertTrue("b should have been closed", cache.closed.contains("b"));
+		assertNotNull(cache.get("a"));
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	/**
+	 * Tests that entries refusing to be closed make the cache overflow
+	 */
+	@Test
+	public void testOverflow() {
+		TestCache cache = new TestCache(2);
+		cache.pinned.add("a");
+		cache.pinned.add("b");
+		cache.pinned.add("c");
+		cache.put("a", "a");
+		cache.put("b", "b");
+		cache.put("c", "c");
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getOverflow());
+		cache.pinned.clear();
+		cache.put("d", "d");
+		assertEquals(2, cache.size());
+		assertEquals(0, cache.getOverflow());
+		assertNull("a should have been evicted", cache.get("a"));
+		assertNotNull(cache.get("d"));
+	}
+
+	/**
+	 * Tests that removed and flushed entries are not closed
+	 */
+	@Test
+	public void testRemoveAndFlushDoNotClose() {
+		TestCache cache = new TestCache(10);
+		cache.put("a", "a");
+		cache.put("b", "b");
+		assertEquals("a", cache.remove("a"));
+		cache.flush();
+		assertTrue(cache.isEmpty());
+		assertTrue(cache.closed.isEmpty());
+	}
+
+	/**
+	 * Tests the hit and miss counters and computeIfAbsent
+	 */
+	@Test
+	public void testCounters() {
+		TestCache cache = new TestCache(1000);
+		String value = cache.computeIfAbsent("a", k -> "value");
+		assertSame(value, cache.computeIfAbsent("a", k -> "other"));
+		assertNull(cache.get("b"));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+	}
+
+	/**
+	 * Tests that a weighted cache evicts entries by their space and keeps the
+	 * entry just added even if it exceeds the limit alone
+	 */
+	@Test
+	public void testWeighted() {
+		TestCache cache = new TestCache(10, true);
+		cache.put("a", "aaaa");
+		cache.put("b", "bbbb");
+		assertEquals(8, cache.getSpaceUsed());
+		cache.put("c", "cccc");
+		assertNull("a should have been evicted", cache.get("a"));
+		assertEquals(8, cache.getSpaceUsed());
+		cache.put("b", "b");
+		assertEquals(5, cache.getSpaceUsed());
+		cache.put("d", "dddddddddddd");
+		assertEquals(1, cache.size());
+		assertNotNull("the entry just added should be kept", cache.get("d"));
+		assertEquals(12, cache.getSpaceUsed());
+		cache.remove("d");
+		assertEquals(0, cache.getSpaceUsed());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,8 +19,13 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -30,11 +35,13 @@ import org.eclipse.pde.api.tools.internal.CompilationUnit;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
@@ -1318,4 +1325,42 @@ public class TagScannerTests {
 		assertNotNull("There should be API annotations for the non-default method", description); //$NON-NLS-1$
 	}
 
+	/**
+	 * Returns the restrictions set in the given description by element
+	 */
+	private Map<IElementDescriptor, Integer> getRestrictions(IApiDescription description) {
+		Map<IElementDescriptor, Integer> restrictions = new HashMap<>();
+		description.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations annotations) {
+				if (annotations.getRestrictions() != RestrictionModifiers.NO_RESTRICTIONS) {
+					restrictions.put(element, Integer.valueOf(annotations.getRestrictions()));
+				}
+				return true;
+			}
+		}, null);
+		return restrictions;
+	}
+
+	/**
+	 * Tests that scanning sources in batches finds the same tags as scanning
+	 * them one by one
+	 */
+	@Test
+	public void testBatchScan() throws Exception {
+		List<Path> files;
+		try (Stream<Path> stream = Files.walk(SRC_LOC.append("a").toPath())) { //$NON-NLS-1$
+			files = stream.filter(path -> path.toString().endsWith(".java")).sorted().toList(); //$NON-NLS-1$
+		}
+		CompilationUnit[] units = files.stream().map(path -> new CompilationUnit(path.toString(), IApiCoreConstants.UTF_8)).toArray(CompilationUnit[]::new);
+		IApiDescription single = newDescription();
+		for (CompilationUnit unit : units) {
+			TagScanner.newScanner().scan(unit, single, null, null, null);
+		}
+		IApiDescription batched = newDescription();
+		TagScanner.newScanner().scan(units, batched, null, null, null);
+		Map<IElementDescriptor, Integer> expected = getRestrictions(single);
+		assertTrue("Some tags should have been found", !expected.isEmpty()); //$NON-NLS-1$
+		assertEquals("The batched scan should find the same tags", expected, getRestrictions(batched)); //$NON-NLS-1$
+	}
 }
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.reference.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.TypeReferenceIndex;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.junit.Test;
+
+/**
+ * Tests the reference index saved with the API tools build state
+ */
+public class TypeReferenceIndexTests {
+
+	/**
+	 * Creates an index where <code>B</code> extends <code>A</code>,
+	 * <code>C</code> calls a method of <code>B</code>, <code>D</code> declares
+	 * a field of type <code>C</code> and <code>E</code> is unrelated.
+	 */
+	private TypeReferenceIndex createIndex() {
+		TypeReferenceIndex index = new TypeReferenceIndex();
+		index.setReferences("p.B", List.of(Reference.typeReference(null, "p.A", IReference.REF_EXTENDS))); //$NON-NLS-1$ //$NON-NLS-2$
+		index.setReferences("p.C", List.of(Reference.methodReference(null, "p.B$Inner", "m", "()V", IReference.REF_VIRTUALMETHOD))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		index.setReferences("p.D", List.of(Reference.typeReference(null, "p.C", IReference.REF_FIELDDECL))); //$NON-NLS-1$ //$NON-NLS-2$
+		index.setReferences("q.E", List.of(Reference.typeReference(null, "java.lang.Object", IReference.REF_EXTENDS))); //$NON-NLS-1$ //$NON-NLS-2$
+		return index;
+	}
+
+	/**
+	 * Tests that changes are propagated along hierarchy references only
+	 */
+	@Test
+	public void testDependents() {
+		TypeReferenceIndex index = createIndex();
+		assertEquals(Set.of("p.B", "p.C"), index.getDependents(List.of("p/A"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(Set.of("p.D"), index.getDependents(List.of("p.C"))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Set.of("p.C"), index.getReferencingTypes("p.B$Inner")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Set.of(), index.getDependents(List.of("p.D"))); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the references of a type can be replaced and removed
+	 */
+	@Test
+	public void testUpdate() {
+		TypeReferenceIndex index = createIndex();
+		index.setReferences("p.C", List.of()); //$NON-NLS-1$
+		assertEquals(Set.of("p.B"), index.getDependents(List.of("p.A"))); //$NON-NLS-1$ //$NON-NLS-2$
+		index.removeType("p/B"); //$NON-NLS-1$
+		assertEquals(Set.of(), index.getDependents(List.of("p.A"))); //$NON-NLS-1$
+		assertEquals(3, index.size());
+	}
+
+	/**
+	 * Tests that the index is saved and restored
+	 */
+	@Test
+	public void testPersistence() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			createIndex().write(out);
+		}
+		TypeReferenceIndex index = null;
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			index = TypeReferenceIndex.read(in);
+			assertEquals("The whole index should be read", -1, in.read()); //$NON-NLS-1$
+		}
+		assertEquals(4, index.size());
+		assertEquals(Set.of("p.B", "p.C"), index.getDependents(List.of("p.A"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(Set.of("q.E"), index.getReferencingTypes("java.lang.Object")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.search.tests;
 
+import static org.junit.Assert.assertFalse;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiScope;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
 import org.junit.Test;
@@ -201,4 +208,155 @@ public class SearchEngineTests extends SearchTest {
 		TEST_REPORTER.setExpectedNotSearched(null);
 		engine.search(getTestBaseline(), TEST_REQUESTOR, TEST_REPORTER, null);
 	}
+
+	/**
+	 * Tests that searching the types of the components concurrently reports
+	 * the same matches as the sequential search
+	 */
+	@Test
+	public void testSearchParallel() throws CoreException {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		TEST_REQUESTOR.setScopeBaseline(getTestBaseline());
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		TEST_REPORTER.setExpectedReferences(new String[] { P2_NAME, P3_NAME },
+				new int[][] { { IReference.REF_FIELDDECL, IReference.REF_FIELDDECL },
+						{ IReference.REF_FIELDDECL, IReference.REF_FIELDDECL, IReference.REF_FIELDDECL } });
+		TEST_REPORTER.setExpectedNotSearched(null);
+		engine.search(getTestBaseline(), TEST_REQUESTOR, TEST_REPORTER, true, null);
+	}
+
+	/**
+	 * Tests that the parallel search never calls a requestor that is not
+	 * thread safe from several threads at once
+	 */
+	@Test
+	public void testSearchParallelSerializesRequestor() throws CoreException {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		TEST_REQUESTOR.setScopeBaseline(getTestBaseline());
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		TEST_REPORTER.setExpectedReferences(new String[] { P2_NAME, P3_NAME },
+				new int[][] { { IReference.REF_FIELDDECL, IReference.REF_FIELDDECL },
+						{ IReference.REF_FIELDDECL, IReference.REF_FIELDDECL, IReference.REF_FIELDDECL } });
+		TEST_REPORTER.setExpectedNotSearched(null);
+		SingleThreadedRequestor requestor = new SingleThreadedRequestor(TEST_REQUESTOR);
+		engine.search(getTestBaseline(), requestor, TEST_REPORTER, true, null);
+		assertFalse("the requestor was called concurrently", requestor.overlapped); //$NON-NLS-1$
+	}
+
+	/**
+	 * Requestor delegating to another one, which records if it is entered by a
+	 * thread while another one is still in it. Its state is deliberately not
+	 * synchronized, like the state of most requestors.
+	 */
+	static class SingleThreadedRequestor implements IApiSearchRequestor {
+		private final IApiSearchRequestor delegate;
+		private Thread inside = null;
+		boolean overlapped = false;
+
+		SingleThreadedRequestor(IApiSearchRequestor delegate) {
+			this.delegate = delegate;
+		}
+
+		private void enter() {
+			if (inside != null) {
+				overlapped = true;
+			}
+			inside = Thread.currentThread();
+			Thread.yield();
+		}
+
+		private void exit() {
+			inside = null;
+		}
+
+		@Override
+		public IApiScope getScope() {
+			enter();
+			try {
+				return delegate.getScope();
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public boolean acceptComponent(IApiComponent component) {
+			enter();
+			try {
+				return delegate.acceptComponent(component);
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public boolean acceptContainer(IApiTypeContainer container) {
+			enter();
+			try {
+				return delegate.acceptContainer(container);
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public boolean acceptMember(IApiMember member) {
+			enter();
+			try {
+				return delegate.acceptMember(member);
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public boolean acceptReference(IReference reference, IProgressMonitor monitor) {
+			enter();
+			try {
+				return delegate.acceptReference(reference, monitor);
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public int getReferenceKinds() {
+			enter();
+			try {
+				return delegate.getReferenceKinds();
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public boolean includesAPI() {
+			enter();
+			try {
+				return delegate.includesAPI();
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public boolean includesInternal() {
+			enter();
+			try {
+				return delegate.includesInternal();
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public boolean includesIllegalUse() {
+			enter();
+			try {
+				return delegate.includesIllegalUse();
+			} finally {
+				exit();
+			}
+		}
+	}
 }
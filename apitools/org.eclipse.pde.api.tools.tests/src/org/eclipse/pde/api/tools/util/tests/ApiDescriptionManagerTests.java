@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests saving and restoring project API descriptions by the
+ * {@link ApiDescriptionManager}
+ */
+public class ApiDescriptionManagerTests extends AbstractApiTest {
+
+	private static final String API_PACKAGE = "a.b.c"; //$NON-NLS-1$
+	private static final String OTHER_API_PACKAGE = "x.y.z"; //$NON-NLS-1$
+	private static final String INTERNAL_PACKAGE = "a.b.c.internal"; //$NON-NLS-1$
+
+	private static final IElementDescriptor TYPE = Factory.typeDescriptor("a.b.c.A"); //$NON-NLS-1$
+	private static final IElementDescriptor FIELD = Factory.fieldDescriptor("a.b.c.A", "field"); //$NON-NLS-1$ //$NON-NLS-2$
+	private static final IElementDescriptor METHOD = Factory.methodDescriptor("a.b.c.A", "method", "(Ljava/lang/String;)V"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final IElementDescriptor OTHER_TYPE = Factory.typeDescriptor("x.y.z.B"); //$NON-NLS-1$
+	private static final IElementDescriptor INTERNAL_TYPE = Factory.typeDescriptor("a.b.c.internal.C"); //$NON-NLS-1$
+
+	private final ApiDescriptionManager fManager = ApiDescriptionManager.getManager();
+
+	/**
+	 * Tests that packages, types, fields and methods are restored from the
+	 * binary file with their visibility and restrictions
+	 */
+	@Test
+	public void testRoundTrip() throws Exception {
+		populate();
+		save();
+		assertTrue("the binary file should have been written", Files.isRegularFile(getStateFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME))); //$NON-NLS-1$
+		assertFalse("no XML file should have been written", Files.exists(getStateFile(IApiCoreConstants.API_DESCRIPTION_XML_NAME))); //$NON-NLS-1$
+
+		drop();
+		assertRestored(getDescription(), true);
+	}
+
+	/**
+	 * Tests that a description saved in the XML format of previous versions is
+	 * read and migrated to the binary file on the next save
+	 */
+	@Test
+	public void testReadXmlDescription() throws Exception {
+		populate();
+		save();
+		drop();
+		// the packages of the restored description are written as XML before
+		// their children have been loaded
+		ProjectApiDescription restored = getDescription();
+		Util.writeDocumentToFile(restored.getXML(), getStateFile(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+		Files.delete(getStateFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME));
+
+		drop();
+		assertRestored(getDescription(), true);
+		save();
+		assertTrue("the XML file should have been migrated to the binary file", Files.isRegularFile(getStateFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME))); //$NON-NLS-1$
+		assertFalse("the migrated XML file should have been deleted", Files.exists(getStateFile(IApiCoreConstants.API_DESCRIPTION_XML_NAME))); //$NON-NLS-1$
+
+		drop();
+		assertRestored(getDescription(), true);
+	}
+
+	/**
+	 * Tests that a corrupt binary file is discarded and the description is
+	 * rebuilt from the source
+	 */
+	@Test
+	public void testCorruptFile() throws Exception {
+		populate();
+		save();
+		Path file = getStateFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, 20));
+
+		drop();
+		assertRestored(getDescription(), false);
+	}
+
+	/**
+	 * Tests that binary files of another format version or API description
+	 * version are discarded and the description is rebuilt from the source
+	 */
+	@Test
+	public void testIncompatibleVersion() throws Exception {
+		populate();
+		save();
+		writeHeader(Integer.MAX_VALUE, IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+		drop();
+		assertRestored(getDescription(), false);
+
+		writeHeader(1, "1.0"); //$NON-NLS-1$
+		drop();
+		assertRestored(getDescription(), false);
+	}
+
+	/**
+	 * Tests that the children of a restored package are loaded when the first
+	 * element of the package is modified, and that the packages whose children
+	 * were never loaded are saved again with all of their children
+	 */
+	@Test
+	public void testLazyChildren() throws Exception {
+		populate();
+		save();
+
+		drop();
+		IApiDescription description = getDescription();
+		// only loads the children of x.y.z
+		description.setRestrictions(OTHER_TYPE, RestrictionModifiers.NO_EXTEND);
+		save();
+
+		drop();
+		description = getDescription();
+		assertEquals(RestrictionModifiers.NO_EXTEND, description.resolveAnnotations(OTHER_TYPE).getRestrictions());
+		// modifies a method before its siblings have been looked up
+		description.setRestrictions(METHOD, RestrictionModifiers.NO_OVERRIDE | RestrictionModifiers.NO_REFERENCE);
+		assertEquals(RestrictionModifiers.NO_OVERRIDE | RestrictionModifiers.NO_REFERENCE, description.resolveAnnotations(METHOD).getRestrictions());
+		assertEquals(RestrictionModifiers.NO_INSTANTIATE | RestrictionModifiers.NO_EXTEND, description.resolveAnnotations(TYPE).getRestrictions());
+		assertEquals(RestrictionModifiers.NO_REFERENCE, description.resolveAnnotations(FIELD).getRestrictions());
+	}
+
+	/**
+	 * Builds the API description of the testing project from its source tags
+	 * and adds a restriction that is not in the source. That restriction is
+	 * only present if the description is restored rather than rebuilt.
+	 */
+	private void populate() throws CoreException {
+		ProjectApiDescription description = getDescription();
+		description.accept(new ApiDescriptionVisitor() {
+		}, null);
+		assertTrue(description.setRestrictions(TYPE, RestrictionModifiers.NO_INSTANTIATE | RestrictionModifiers.NO_EXTEND).isOK());
+		assertRestored(description, true);
+	}
+
+	private void assertRestored(IApiDescription description, boolean restored) {
+		IApiAnnotations annotations = description.resolveAnnotations(Factory.packageDescriptor(API_PACKAGE));
+		assertNotNull(annotations);
+		assertEquals(VisibilityModifiers.API, annotations.getVisibility());
+
+		annotations = description.resolveAnnotations(TYPE);
+		assertNotNull(annotations);
+		assertEquals("the type should inherit the visibility of its package", VisibilityModifiers.API, annotations.getVisibility()); //$NON-NLS-1$
+		int restrictions = RestrictionModifiers.NO_INSTANTIATE;
+		if (restored) {
+			restrictions |= RestrictionModifiers.NO_EXTEND;
+		}
+		assertEquals(restrictions, annotations.getRestrictions());
+
+		annotations = description.resolveAnnotations(FIELD);
+		assertNotNull(annotations);
+		assertEquals(VisibilityModifiers.API, annotations.getVisibility());
+		assertEquals(RestrictionModifiers.NO_REFERENCE, annotations.getRestrictions());
+
+		annotations = description.resolveAnnotations(METHOD);
+		assertNotNull(annotations);
+		assertEquals(RestrictionModifiers.NO_OVERRIDE, annotations.getRestrictions());
+
+		annotations = description.resolveAnnotations(OTHER_TYPE);
+		assertNotNull(annotations);
+		assertEquals(VisibilityModifiers.API, annotations.getVisibility());
+
+		annotations = description.resolveAnnotations(INTERNAL_TYPE);
+		assertNotNull(annotations);
+		assertEquals(VisibilityModifiers.PRIVATE, annotations.getVisibility());
+	}
+
+	/**
+	 * Replaces the binary file by a header with the given versions
+	 */
+	private void writeHeader(int formatVersion, String version) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(getStateFile(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME)))) {
+			out.writeInt(0x41504944); // "APID"
+			out.writeInt(formatVersion);
+			byte[] bytes = version.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private ProjectApiDescription getDescription() {
+		ProjectComponent component = (ProjectComponent) getWorkspaceBaseline().getApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project component must exist", component); //$NON-NLS-1$
+		return (ProjectApiDescription) fManager.getApiDescription(component, component.getBundleDescription());
+	}
+
+	/**
+	 * Drops the API description from memory, it is restored from disk when it
+	 * is asked for the next time
+	 */
+	private void drop() {
+		fManager.clean(getTestingProject(), false, true);
+	}
+
+	private void save() throws CoreException {
+		ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+	}
+
+	private Path getStateFile(String name) {
+		return ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(TESTING_PLUGIN_PROJECT_NAME).append(name).toPath();
+	}
+
+	private IJavaProject getTestingProject() {
+		return JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(TESTING_PLUGIN_PROJECT_NAME));
+	}
+
+	private void addSource(String packageName, String typeName, String contents) throws CoreException {
+		IJavaProject project = getTestingProject();
+		IPackageFragmentRoot root = project.getPackageFragmentRoot(project.getProject().getFolder(ProjectUtils.SRC_FOLDER));
+		root.getPackageFragment(packageName).createCompilationUnit(typeName + ".java", contents, true, new NullProgressMonitor()); //$NON-NLS-1$
+	}
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		createProject(TESTING_PLUGIN_PROJECT_NAME, new String[] { API_PACKAGE, OTHER_API_PACKAGE, INTERNAL_PACKAGE });
+		addSource(API_PACKAGE, "A", "package a.b.c;\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "/** @noinstantiate */\n" //$NON-NLS-1$
+				+ "public class A {\n" //$NON-NLS-1$
+				+ "	/** @noreference */\n" //$NON-NLS-1$
+				+ "	public int field;\n" //$NON-NLS-1$
+				+ "	/** @nooverride */\n" //$NON-NLS-1$
+				+ "	public void method(String s) {}\n" //$NON-NLS-1$
+				+ "}\n"); //$NON-NLS-1$
+		addSource(OTHER_API_PACKAGE, "B", "package x.y.z;\npublic class B {}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		addSource(INTERNAL_PACKAGE, "C", "package a.b.c.internal;\npublic class C {}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		ProjectUtils.addExportedPackage(getTestingProject().getProject(), API_PACKAGE, false, List.of());
+		ProjectUtils.addExportedPackage(getTestingProject().getProject(), OTHER_API_PACKAGE, false, List.of());
+		waitForAutoBuild();
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		fManager.clean(getTestingProject(), true, true);
+		deleteProject(TESTING_PLUGIN_PROJECT_NAME);
+		super.tearDown();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -250,24 +250,24 @@ public class APIFileGenerator {
 		if (allFiles != null && allFiles.length != 0) {
 			Map<String, String> options = JavaCore.getOptions();
 			options.put(JavaCore.COMPILER_COMPLIANCE, resolveCompliance(manifestMap));
-			CompilationUnit unit = null;
+			CompilationUnit[] units = new CompilationUnit[allFiles.length];
 			for (int i = 0, max = allFiles.length; i < max; i++) {
-				unit = new CompilationUnit(allFiles[i].getAbsolutePath(), this.encoding);
+				units[i] = new CompilationUnit(allFiles[i].getAbsolutePath(), this.encoding);
 				if (this.debug) {
-					System.out.println("Unit name[" + i + "] : " + unit.getName()); //$NON-NLS-1$ //$NON-NLS-2$
+					System.out.println("Unit name[" + i + "] : " + units[i].getName()); //$NON-NLS-1$ //$NON-NLS-2$
 				}
+			}
+			try {
+				tagScanner.scan(units, apiDescription, classFileContainer, options, null);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+			} finally {
 				try {
-					tagScanner.scan(unit, apiDescription, classFileContainer, options, null);
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-				} finally {
-					try {
-						if (classFileContainer != null) {
-							classFileContainer.close();
-						}
-					} catch (CoreException e) {
-						// ignore
+					if (classFileContainer != null) {
+						classFileContainer.close();
 					}
+				} catch (CoreException e) {
+					// ignore
 				}
 			}
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -58,9 +65,33 @@ import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.Bundle;
 
+/**
+ * Headless application running the API analysis on a project.
+ * <p>
+ * With the <code>-server</code> argument the application does not analyze a
+ * single project but reads analysis requests from its standard input, one per
+ * line, with the same arguments as the application, until the
+ * <code>quit</code> line or the end of the input. Baselines and the target
+ * platform are only loaded once and kept in memory between requests, and so
+ * are the API model caches. The end of each request is reported by a line
+ * starting with <code>API_ANALYSIS_RESULT</code> followed by its status and
+ * timings.
+ * </p>
+ */
 public class ApiAnalysisApplication implements IApplication {
 
+	/**
+	 * Line ending the requests in server mode
+	 */
+	private static final String QUIT_COMMAND = "quit"; //$NON-NLS-1$
+
+	/**
+	 * Prefix of the line reporting the end of a request in server mode
+	 */
+	private static final String RESULT_PREFIX = "API_ANALYSIS_RESULT"; //$NON-NLS-1$
+
 	private static class Request {
+		private static final String SERVER_ARG = "server"; //$NON-NLS-1$
 		private static final String FAIL_ON_ERROR_ARG = "failOnError"; //$NON-NLS-1$
 		private static final String PROJECT_ARG = "project"; //$NON-NLS-1$
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
@@ -79,6 +110,9 @@ public class ApiAnalysisApplication implements IApplication {
 						res.failOnError = true;
 					}
 					currentKey = param.substring(1);
+					if (SERVER_ARG.equals(currentKey)) {
+						res.server = true;
+					}
 				} else if (PROJECT_ARG.equals(currentKey)) {
 					res.project = new File(param);
 				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
@@ -99,40 +133,180 @@ public class ApiAnalysisApplication implements IApplication {
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
+		public boolean server;
+	}
+
+	/**
+	 * Time spent in the phases of a request, in milliseconds
+	 */
+	private static class Timings {
+		long baseline;
+		long target;
+		long build;
 	}
 
 	private ICoreRunnable restoreOriginalProjectState = null;
 
+	/**
+	 * Whether the application runs in server mode
+	 */
+	private boolean server;
+
+	/**
+	 * Maximum number of baselines kept loaded in server mode
+	 */
+	private static final int MAX_BASELINES = 4;
+
+	/**
+	 * A baseline loaded in server mode
+	 *
+	 * @param stamp the stamp of the files the baseline was loaded from
+	 * @param baseline the baseline
+	 */
+	private record LoadedBaseline(String stamp, IApiBaseline baseline) {
+	}
+
+	/**
+	 * Baselines loaded in server mode by the path of their location, least
+	 * recently used first. Evicted baselines are disposed.
+	 */
+	private final Map<String, LoadedBaseline> baselines = new LinkedHashMap<>(MAX_BASELINES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, LoadedBaseline> eldest) {
+			if (size() > MAX_BASELINES) {
+				disposeBaseline(eldest.getValue().baseline());
+				return true;
+			}
+			return false;
+		}
+	};
+
+	/**
+	 * Stamp of the dependency list and bundles the target platform was last
+	 * loaded from in server mode, <code>null</code> if the initial target
+	 * platform is active
+	 */
+	private String targetKey;
+
+	/**
+	 * The target platform active when the server started, restored for
+	 * requests without dependency list
+	 */
+	private ITargetDefinition initialTarget;
+
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
+		IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
+		desc.setAutoBuilding(false);
+		ResourcesPlugin.getWorkspace().setDescription(desc);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+
+		Request args = Request.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+		if (args.server) {
+			server = true;
+			initialTarget = TargetPlatformService.getDefault().getWorkspaceTargetDefinition();
+			return serve();
+		}
+		return analyze(args, new Timings());
+	}
+
+	/**
+	 * Analyzes the requests read from the standard input until the
+	 * <code>quit</code> line or the end of the input
+	 */
+	private Object serve() throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			line = line.trim();
+			if (line.isEmpty()) {
+				continue;
+			}
+			if (QUIT_COMMAND.equals(line)) {
+				break;
+			}
+			Request args = Request.readFromArgs(tokenize(line));
+			Timings timings = new Timings();
+			long start = System.currentTimeMillis();
+			int status = IStatus.ERROR;
+			if (args.project == null) {
+				System.err.println("No project to analyze."); //$NON-NLS-1$
+			} else {
+				try {
+					status = analyze(args, timings);
+				} catch (CoreException e) {
+					// the project could not be restored, keep serving
+					System.err.println(e.getStatus());
+				}
+			}
+			long total = System.currentTimeMillis() - start;
+			System.out.println(String.format("%s %d project=%s total=%dms baseline=%dms target=%dms build=%dms", //$NON-NLS-1$
+					RESULT_PREFIX, status, args.project, total, timings.baseline, timings.target, timings.build));
+			System.out.flush();
+		}
+		return IStatus.OK;
+	}
+
+	/**
+	 * Splits a request line into arguments, double quotes group arguments
+	 * containing spaces
+	 */
+	private static String[] tokenize(String line) {
+		List<String> tokens = new ArrayList<>();
+		StringBuilder token = new StringBuilder();
+		boolean quoted = false;
+		boolean pending = false;
+		for (char c : line.toCharArray()) {
+			if (c == '"') {
+				quoted = !quoted;
+				pending = true;
+			} else if (Character.isWhitespace(c) && !quoted) {
+				if (pending) {
+					tokens.add(token.toString());
+					token.setLength(0);
+					pending = false;
+				}
+			} else {
+				token.append(c);
+				pending = true;
+			}
+		}
+		if (pending) {
+			tokens.add(token.toString());
+		}
+		return tokens.toArray(String[]::new);
+	}
+
+	private int analyze(Request args, Timings timings) throws CoreException {
 		restoreOriginalProjectState = null;
 		try {
-			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
-			desc.setAutoBuilding(false);
-			ResourcesPlugin.getWorkspace().setDescription(desc);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
-
-			Request args = Request
-					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
 			IProject project = importProject(args.project);
 			if (project == null) {
 				System.err.println("Project not loaded."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
-			IApiBaseline baseline = setBaseline(args.baselinePath);
+			long start = System.currentTimeMillis();
+			IApiBaseline baseline = getBaseline(args.baselinePath);
 			if (baseline == null) {
 				System.err.println("Baseline shouldn't be null."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
+			timings.baseline = System.currentTimeMillis() - start;
+			start = System.currentTimeMillis();
 			setTargetPlatform(args.tpFile);
+			timings.target = System.currentTimeMillis() - start;
 
+			start = System.currentTimeMillis();
 			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 			// wait untill all jobs has finished that might be sceduled as part of the
 			// build...
 			while (!Job.getJobManager().isIdle()) {
-				Thread.yield();
+				Thread.sleep(10);
 			}
+			timings.build = System.currentTimeMillis() - start;
 			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
 			Predicate<IMarker> isAPIMarker = marker -> {
 				try {
@@ -216,16 +390,37 @@ public class ApiAnalysisApplication implements IApplication {
 		return resource.getFullPath().toString();
 	}
 
+	/**
+	 * Returns the stamp identifying the given file and the given bundles it
+	 * lists, with their content, in server mode
+	 */
+	private static String getStamp(File file, List<File> bundles) {
+		StringBuilder stamp = new StringBuilder();
+		stamp.append(file.getAbsolutePath()).append('@').append(file.lastModified());
+		for (File bundle : bundles) {
+			stamp.append('|').append(bundle.getAbsolutePath()).append('@').append(bundle.lastModified()).append(':')
+					.append(bundle.length());
+		}
+		return stamp.toString();
+	}
+
 	private void setTargetPlatform(File dependencyList) throws IOException, CoreException, InterruptedException {
 		if (dependencyList != null) {
 			if (!(dependencyList.isFile() && dependencyList.canRead())) {
 				throw new IllegalArgumentException(
 						"dependencyList argument points to non readable file: " + dependencyList.getAbsolutePath());//$NON-NLS-1$
 			}
+			List<File> files = new BundleJarFiles(dependencyList).list();
+			String key = getStamp(dependencyList, files);
+			if (server && key.equals(targetKey)) {
+				// already loaded by a previous request
+				return;
+			}
+			targetKey = null;
 			ITargetPlatformService service = TargetPlatformService.getDefault();
 			ITargetDefinition target = service.newTarget();
 			target.setName("buildpath"); //$NON-NLS-1$
-			TargetBundle[] bundles = new BundleJarFiles(dependencyList).list().stream()//
+			TargetBundle[] bundles = files.stream()//
 					.map(absoluteFile -> {
 						try {
 							return new TargetBundle(absoluteFile);
@@ -237,9 +432,81 @@ public class ApiAnalysisApplication implements IApplication {
 					.toArray(TargetBundle[]::new);
 			target.setTargetLocations(new ITargetLocation[] { new BundleListTargetLocation(bundles) });
 			service.saveTargetDefinition(target);
-			Job job = new LoadTargetDefinitionJob(target);
-			job.schedule();
-			job.join();
+			loadTarget(target);
+			targetKey = key;
+		} else if (server && targetKey != null) {
+			// a previous request changed the target platform, restore the
+			// initial one
+			targetKey = null;
+			loadTarget(initialTarget);
+		}
+	}
+
+	private static void loadTarget(ITargetDefinition target) throws InterruptedException {
+		Job job = new LoadTargetDefinitionJob(target);
+		job.schedule();
+		job.join();
+	}
+
+	/**
+	 * Returns the baseline at the given location, reusing the baseline loaded
+	 * by a previous request in server mode
+	 */
+	private IApiBaseline getBaseline(File baselinePath) throws CoreException {
+		if (!server) {
+			return setBaseline(baselinePath);
+		}
+		String path = Request.BASELINE_DEFAULT_VALUE;
+		String stamp = path;
+		if (baselinePath != null) {
+			path = baselinePath.getAbsolutePath();
+			stamp = getBaselineStamp(baselinePath);
+		}
+		ApiBaselineManager manager = ApiBaselineManager.getManager();
+		LoadedBaseline loaded = baselines.get(path);
+		if (loaded != null && loaded.stamp().equals(stamp)
+				&& manager.getApiBaseline(loaded.baseline().getName()) == loaded.baseline()) {
+			manager.setDefaultApiBaseline(loaded.baseline().getName());
+			return loaded.baseline();
+		}
+		IApiBaseline baseline = setBaseline(baselinePath);
+		if (loaded != null) {
+			// superseded by the baseline just loaded
+			baselines.remove(path);
+			disposeBaseline(loaded.baseline());
+		}
+		if (baseline != null) {
+			baselines.put(path, new LoadedBaseline(stamp, baseline));
+		}
+		return baseline;
+	}
+
+	/**
+	 * @return the stamp of the given baseline location and of the bundles it
+	 *         lists
+	 */
+	private static String getBaselineStamp(File baselinePath) {
+		List<File> bundles = List.of();
+		if (baselinePath.isFile() && baselinePath.getName().endsWith(".txt")) { //$NON-NLS-1$
+			try {
+				bundles = Files.readAllLines(baselinePath.toPath()).stream().map(File::new).toList();
+			} catch (IOException e) {
+				// stamped by the file only, reading it again will fail
+			}
+		}
+		return getStamp(baselinePath, bundles);
+	}
+
+	/**
+	 * Removes the given baseline from the baseline manager if it is still
+	 * registered there, and disposes it
+	 */
+	private static void disposeBaseline(IApiBaseline baseline) {
+		ApiBaselineManager manager = ApiBaselineManager.getManager();
+		if (manager.getApiBaseline(baseline.getName()) == baseline) {
+			manager.removeApiBaseline(baseline.getName());
+		} else {
+			baseline.dispose();
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,13 +23,18 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
@@ -140,6 +145,11 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	private volatile boolean fNeedsSaving;
 
+	/**
+	 * The digests of the archives of API components, loaded lazily
+	 */
+	private ApiDigestIndex digestIndex;
+
 	/**
 	 * The singleton instance
 	 */
@@ -308,6 +318,22 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		}
 	}
 
+	/**
+	 * Returns the index of the digests of the archives API components are
+	 * loaded from, reading the persisted index on first access
+	 *
+	 * @return the digest index
+	 */
+	public synchronized ApiDigestIndex getDigestIndex() {
+		if (digestIndex == null) {
+			digestIndex = new ApiDigestIndex();
+			if (savelocation != null) {
+				digestIndex.load(savelocation.append(ApiDigestIndex.INDEX_FILE_NAME).toPath());
+			}
+		}
+		return digestIndex;
+	}
+
 	/**
 	 * @return the default API baseline saved in the preferences, or
 	 *         <code>null</code> if there isn't one
@@ -346,6 +372,26 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				handlecache.put(baseline.getName(), file.toAbsolutePath().toString());
 			}
 		}
+		persistDigestIndex();
+	}
+
+	/**
+	 * Persists the digest index next to the baseline descriptions if it has
+	 * changed
+	 */
+	private void persistDigestIndex() throws CoreException {
+		ApiDigestIndex index;
+		synchronized (this) {
+			index = digestIndex;
+		}
+		if (savelocation == null || index == null || !index.isDirty()) {
+			return;
+		}
+		try {
+			index.save(savelocation.append(ApiDigestIndex.INDEX_FILE_NAME).toPath());
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Error writing digest index", e)); //$NON-NLS-1$
+		}
 	}
 
 	/**
@@ -405,6 +451,16 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		return document;
 	}
 
+	/**
+	 * A component of a persisted baseline as described in its *.profile file
+	 *
+	 * @param id the symbolic name of the component
+	 * @param version the version of the component
+	 * @param location the OS location of the component
+	 */
+	public record PersistedComponent(String id, String version, String location) {
+	}
+
 	/**
 	 * Restore a baseline from the given input stream (persisted baseline).
 	 *
@@ -415,69 +471,136 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	public IApiComponent[] readBaselineComponents(ApiBaseline baseline, InputStream stream) throws CoreException {
 		long start = System.currentTimeMillis();
+		List<PersistedComponent> entries = readPersistedComponents(baseline, stream);
+		if (entries == null) {
+			return null;
+		}
+		// reading the manifests is the expensive part, do it concurrently
+		List<Callable<IApiComponent>> tasks = new ArrayList<>(entries.size());
+		for (PersistedComponent entry : entries) {
+			tasks.add(() -> ApiModelFactory.newApiComponent(baseline, entry.location()));
+		}
+		List<IApiComponent> components = new ArrayList<>(entries.size());
+		for (Future<IApiComponent> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+			try {
+				IApiComponent component = future.get();
+				if (component != null) {
+					components.add(component);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CoreException(Status.error("Interrupted restoring API baseline", e)); //$NON-NLS-1$
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof CoreException ce) {
+					throw ce;
+				}
+				throw new CoreException(Status.error("Error restoring API baseline", e.getCause())); //$NON-NLS-1$
+			}
+		}
+		IApiComponent[] restored = components.toArray(new IApiComponent[components.size()]);
+		// Avoid unstable bundle traversal order to simplify our life
+		Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to restore a persisted baseline : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return restored;
+	}
+
+	/**
+	 * Reads the directory of the components of the given persisted baseline
+	 * from its *.profile file, without creating the components.
+	 *
+	 * @param baseline the given baseline
+	 * @return the persisted components by id or <code>null</code> if the
+	 *         baseline is not persisted or is already loaded
+	 */
+	public Map<String, PersistedComponent> readComponentDirectory(ApiBaseline baseline) {
+		initializeStateCache();
+		if (isBaselineLoaded(baseline)) {
+			return null;
+		}
+		String filename = handlecache.get(baseline.getName());
+		if (filename == null) {
+			return null;
+		}
+		long start = System.currentTimeMillis();
+		List<PersistedComponent> entries = null;
+		try (FileInputStream inputStream = new FileInputStream(filename)) {
+			entries = readPersistedComponents(baseline, inputStream);
+		} catch (IOException | CoreException e) {
+			ApiPlugin.log(e);
+		}
+		if (entries == null) {
+			return null;
+		}
+		Map<String, PersistedComponent> directory = new HashMap<>(entries.size() * 2);
+		for (PersistedComponent entry : entries) {
+			directory.putIfAbsent(entry.id(), entry);
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to read the component directory of " + baseline.getName() + " : " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$
+		}
+		return directory;
+	}
+
+	/**
+	 * Reads the components described in the given persisted baseline
+	 *
+	 * @return the described components or <code>null</code> if the stream does
+	 *         not describe a baseline
+	 */
+	private List<PersistedComponent> readPersistedComponents(ApiBaseline baseline, InputStream stream) throws CoreException {
 		DocumentBuilder parser = getConfiguredParser();
-		IApiComponent[] restored = null;
 		try {
 			Document document = parser.parse(stream);
 			Element root = document.getDocumentElement();
-			if (root.getNodeName().equals(IApiXmlConstants.ELEMENT_APIPROFILE)) {
-				String baselineLocation = root.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-				if (baselineLocation != null && !baselineLocation.equals(Util.EMPTY_STRING)) {
-					baseline.setLocation(IPath.fromPortableString(baselineLocation).toOSString());
-				}
-				// un-pooled components
-				NodeList children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
-				List<IApiComponent> components = new ArrayList<>();
-				for (int j = 0; j < children.getLength(); j++) {
-					Element componentNode = (Element) children.item(j);
-					// this also contains components in pools, so don't process
-					// them
-					if (componentNode.getParentNode().equals(root)) {
-						String location = componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, IPath.fromPortableString(location).toOSString());
-						if (component != null) {
-							components.add(component);
-						}
-					}
+			if (!root.getNodeName().equals(IApiXmlConstants.ELEMENT_APIPROFILE)) {
+				return null;
+			}
+			String baselineLocation = root.getAttribute(IApiXmlConstants.ATTR_LOCATION);
+			if (baselineLocation != null && !baselineLocation.equals(Util.EMPTY_STRING)) {
+				baseline.setLocation(IPath.fromPortableString(baselineLocation).toOSString());
+			}
+			// un-pooled components
+			NodeList children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
+			List<PersistedComponent> components = new ArrayList<>();
+			for (int j = 0; j < children.getLength(); j++) {
+				Element componentNode = (Element) children.item(j);
+				// this also contains components in pools, so don't process
+				// them
+				if (componentNode.getParentNode().equals(root)) {
+					String location = componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION);
+					components.add(new PersistedComponent(componentNode.getAttribute(IApiXmlConstants.ATTR_ID), componentNode.getAttribute(IApiXmlConstants.ATTR_VERSION), IPath.fromPortableString(location).toOSString()));
 				}
-				// pooled components - only for xml file with version <= 1
-				// since version 2, pools have been removed
-				children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_POOL);
-				IApiComponent component = null;
-				for (int j = 0; j < children.getLength(); j++) {
-					String location = ((Element) children.item(j)).getAttribute(IApiXmlConstants.ATTR_LOCATION);
-					IPath poolPath = IPath.fromPortableString(location);
-					NodeList componentNodes = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
-					for (int i = 0; i < componentNodes.getLength(); i++) {
-						Element compElement = (Element) componentNodes.item(i);
-						String id = compElement.getAttribute(IApiXmlConstants.ATTR_ID);
-						String ver = compElement.getAttribute(IApiXmlConstants.ATTR_VERSION);
-						StringBuilder name = new StringBuilder();
-						name.append(id);
-						name.append('_');
-						name.append(ver);
-						File file = poolPath.append(name.toString()).toFile();
-						if (!file.exists()) {
-							name.append(".jar"); //$NON-NLS-1$
-							file = poolPath.append(name.toString()).toFile();
-						}
-						component = ApiModelFactory.newApiComponent(baseline, file.getAbsolutePath());
-						if (component != null) {
-							components.add(component);
-						}
+			}
+			// pooled components - only for xml file with version <= 1
+			// since version 2, pools have been removed
+			children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_POOL);
+			for (int j = 0; j < children.getLength(); j++) {
+				String location = ((Element) children.item(j)).getAttribute(IApiXmlConstants.ATTR_LOCATION);
+				IPath poolPath = IPath.fromPortableString(location);
+				NodeList componentNodes = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
+				for (int i = 0; i < componentNodes.getLength(); i++) {
+					Element compElement = (Element) componentNodes.item(i);
+					String id = compElement.getAttribute(IApiXmlConstants.ATTR_ID);
+					String ver = compElement.getAttribute(IApiXmlConstants.ATTR_VERSION);
+					StringBuilder name = new StringBuilder();
+					name.append(id);
+					name.append('_');
+					name.append(ver);
+					File file = poolPath.append(name.toString()).toFile();
+					if (!file.exists()) {
+						name.append(".jar"); //$NON-NLS-1$
+						file = poolPath.append(name.toString()).toFile();
 					}
+					components.add(new PersistedComponent(id, ver, file.getAbsolutePath()));
 				}
-				restored = components.toArray(new IApiComponent[components.size()]);
-				// Avoid unstable bundle traversal order to simplify our life
-				Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
 			}
+			return components;
 		} catch (IOException | SAXException e) {
 			throw new CoreException(Status.error("Error restoring API baseline", e)); //$NON-NLS-1$
 		}
-		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
-			System.out.println("Time to restore a persisted baseline : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
-		}
-		return restored;
 	}
 
 	private static DocumentBuilder getConfiguredParser() throws CoreException {
@@ -495,6 +618,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	@Override
 	public void saving(ISaveContext context) throws CoreException {
 		if (!fNeedsSaving) {
+			persistDigestIndex();
 			return;
 		}
 		persistStateCache();
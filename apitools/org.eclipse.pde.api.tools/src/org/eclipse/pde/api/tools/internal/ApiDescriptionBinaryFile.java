@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.PackageNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.TypeNode;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
+
+/**
+ * Reads and writes the persisted state of a {@link ProjectApiDescription} in
+ * a compact binary form. It replaces the <code>.api_description</code> XML
+ * file in the API tools state location, which remains readable for migration.
+ * <p>
+ * The file starts with a header and a table of all strings (handles, names
+ * and signatures), followed by a table of the persisted packages and the node
+ * records of each package. Node records refer to strings by index only. Only
+ * the package table is decoded when a description is restored, the nodes of a
+ * package are materialized the first time the package is refreshed.
+ * </p>
+ * <p>
+ * The persisted content is the same as the one of the XML file: packages and
+ * types are only written if they have API visibility, fields and methods only
+ * if they have restrictions.
+ * </p>
+ */
+final class ApiDescriptionBinaryFile {
+
+	/**
+	 * "APID"
+	 */
+	private static final int MAGIC = 0x41504944;
+
+	/**
+	 * Version of the binary layout, independent of the version of the API
+	 * description content.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte KIND_TYPE = 1;
+	private static final byte KIND_FIELD = 2;
+	private static final byte KIND_METHOD = 3;
+
+	/**
+	 * Mapped files cannot be replaced on Windows while they are referenced, so
+	 * the content is read into memory there.
+	 */
+	private static final boolean MAP_FILES = !Platform.OS_WIN32.equals(Platform.getOS());
+
+	/**
+	 * Restores the children of a package node on demand.
+	 */
+	@FunctionalInterface
+	interface ChildrenLoader {
+		void load() throws CoreException;
+	}
+
+	private ApiDescriptionBinaryFile() {
+	}
+
+	/**
+	 * Writes the given description to the given file.
+	 *
+	 * @param description the description to write
+	 * @param file the file to write to
+	 * @throws IOException if the file could not be written
+	 */
+	static void write(ProjectApiDescription description, Path file) throws IOException {
+		synchronized (description) {
+			Map<String, Integer> strings = new LinkedHashMap<>();
+			List<PackageNode> packages = new ArrayList<>();
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			List<int[]> ranges = new ArrayList<>();
+			DataOutputStream bodyOut = new DataOutputStream(body);
+			for (ManifestNode node : description.fPackageMap.values()) {
+				PackageNode pkg = (PackageNode) node;
+				pkg.loadChildren();
+				if (!pkg.hasApiVisibility(pkg)) {
+					continue;
+				}
+				packages.add(pkg);
+				int start = bodyOut.size();
+				writeChildren(bodyOut, pkg.children, strings);
+				ranges.add(new int[] { start, bodyOut.size() - start });
+				for (IPackageFragment fragment : pkg.fFragments) {
+					intern(fragment.getHandleIdentifier(), strings);
+				}
+			}
+			bodyOut.flush();
+
+			Files.createDirectories(file.getParent());
+			Path tmp = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				writeString(out, IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+				out.writeLong(description.fPackageTimeStamp);
+				out.writeInt(strings.size());
+				for (String string : strings.keySet()) {
+					writeString(out, string);
+				}
+				out.writeInt(packages.size());
+				for (int i = 0; i < packages.size(); i++) {
+					PackageNode pkg = packages.get(i);
+					out.writeInt(pkg.visibility);
+					out.writeInt(pkg.fFragments.length);
+					for (IPackageFragment fragment : pkg.fFragments) {
+						out.writeInt(strings.get(fragment.getHandleIdentifier()));
+					}
+					out.writeInt(ranges.get(i)[0]);
+					out.writeInt(ranges.get(i)[1]);
+				}
+				body.writeTo(out);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Restores the given description from the given file. Only the packages
+	 * are restored immediately, their children are restored on demand.
+	 *
+	 * @param description the description to restore
+	 * @param project the project of the description
+	 * @param file the file to read
+	 * @return whether the file was restored, <code>false</code> if it was
+	 *         written by an incompatible version
+	 * @throws CoreException if the file could not be read
+	 */
+	static boolean read(ProjectApiDescription description, IJavaProject project, Path file) throws CoreException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (MAP_FILES) {
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			} else {
+				buffer = ByteBuffer.allocate((int) channel.size());
+				while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+					// read fully
+				}
+				buffer.flip();
+			}
+		} catch (IOException e) {
+			throw new CoreException(Status.error(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e));
+		}
+		try {
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+				return false;
+			}
+			String version = readString(buffer);
+			description.setEmbeddedVersion(version);
+			if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+				return false;
+			}
+			long timestamp = buffer.getLong();
+			String[] strings = new String[buffer.getInt()];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = readString(buffer);
+			}
+			int packageCount = buffer.getInt();
+			List<PackageNode> packages = new ArrayList<>(packageCount);
+			List<int[]> ranges = new ArrayList<>(packageCount);
+			for (int i = 0; i < packageCount; i++) {
+				int visibility = buffer.getInt();
+				IPackageFragment[] fragments = new IPackageFragment[buffer.getInt()];
+				for (int j = 0; j < fragments.length; j++) {
+					String handle = strings[buffer.getInt()];
+					IJavaElement element = JavaCore.create(handle);
+					if (element == null || element.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle);
+					}
+					fragments[j] = (IPackageFragment) element;
+				}
+				if (fragments.length == 0) {
+					abort(ScannerMessages.ApiDescriptionManager_2);
+				}
+				IElementDescriptor descriptor = Factory.packageDescriptor(fragments[0].getElementName());
+				packages.add(description.newPackageNode(fragments, null, descriptor, visibility,
+						RestrictionModifiers.NO_RESTRICTIONS));
+				ranges.add(new int[] { buffer.getInt(), buffer.getInt() });
+			}
+			int bodyStart = buffer.position();
+			for (int i = 0; i < packages.size(); i++) {
+				PackageNode pkg = packages.get(i);
+				int[] range = ranges.get(i);
+				if (range[1] > 0) {
+					ByteBuffer records = buffer.duplicate();
+					records.position(bodyStart + range[0]);
+					pkg.setChildrenLoader(() -> {
+						try {
+							readChildren(description, records, strings, pkg, pkg.children);
+						} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+							abort(ScannerMessages.ApiDescriptionManager_4);
+						}
+					});
+				}
+				description.fPackageMap.put(pkg.element, pkg);
+			}
+			description.fPackageTimeStamp = timestamp;
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			return true;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new CoreException(Status.error(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e));
+		}
+	}
+
+	private static void writeChildren(DataOutputStream out, Map<IElementDescriptor, ManifestNode> children,
+			Map<String, Integer> strings) throws IOException {
+		List<ManifestNode> persisted = new ArrayList<>(children.size());
+		for (ManifestNode child : children.values()) {
+			if (isPersisted(child)) {
+				persisted.add(child);
+			}
+		}
+		out.writeInt(persisted.size());
+		for (ManifestNode node : persisted) {
+			if (node instanceof TypeNode type) {
+				out.writeByte(KIND_TYPE);
+				out.writeInt(intern(type.fType.getHandleIdentifier(), strings));
+				out.writeInt(type.visibility);
+				out.writeInt(type.restrictions);
+				out.writeLong(type.fTimeStamp);
+				writeChildren(out, type.children, strings);
+			} else if (node.element instanceof IMethodDescriptor method) {
+				out.writeByte(KIND_METHOD);
+				out.writeInt(intern(method.getName(), strings));
+				out.writeInt(intern(method.getSignature(), strings));
+				out.writeInt(node.visibility);
+				out.writeInt(node.restrictions);
+			} else if (node.element instanceof IFieldDescriptor field) {
+				out.writeByte(KIND_FIELD);
+				out.writeInt(intern(field.getName(), strings));
+				out.writeInt(node.visibility);
+				out.writeInt(node.restrictions);
+			}
+		}
+	}
+
+	private static void readChildren(ProjectApiDescription description, ByteBuffer in, String[] strings,
+			ManifestNode parent, Map<IElementDescriptor, ManifestNode> children) throws CoreException {
+		int count = in.getInt();
+		for (int i = 0; i < count; i++) {
+			byte kind = in.get();
+			switch (kind) {
+				case KIND_TYPE -> {
+					String handle = strings[in.getInt()];
+					int visibility = in.getInt();
+					int restrictions = in.getInt();
+					IJavaElement element = JavaCore.create(handle);
+					if (element == null || element.getElementType() != IJavaElement.TYPE) {
+						abort(ScannerMessages.ApiDescriptionManager_3 + handle);
+					}
+					IType type = (IType) element;
+					IElementDescriptor descriptor = Factory.typeDescriptor(type.getFullyQualifiedName('$'));
+					TypeNode node = description.newTypeNode(type, parent, descriptor, visibility, restrictions);
+					node.fTimeStamp = in.getLong();
+					children.put(descriptor, node);
+					readChildren(description, in, strings, node, node.children);
+				}
+				case KIND_METHOD -> {
+					String name = strings[in.getInt()];
+					String signature = strings[in.getInt()];
+					int visibility = in.getInt();
+					int restrictions = in.getInt();
+					if (parent.element instanceof IReferenceTypeDescriptor type) {
+						IElementDescriptor descriptor = type.getMethod(name, signature);
+						children.put(descriptor, description.newNode(parent, descriptor, visibility, restrictions));
+					}
+				}
+				case KIND_FIELD -> {
+					String name = strings[in.getInt()];
+					int visibility = in.getInt();
+					int restrictions = in.getInt();
+					if (parent.element instanceof IReferenceTypeDescriptor type) {
+						IElementDescriptor descriptor = type.getField(name);
+						children.put(descriptor, description.newNode(parent, descriptor, visibility, restrictions));
+					}
+				}
+				default -> abort(ScannerMessages.ApiDescriptionManager_4);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given node is persisted, mirroring the XML
+	 * persistence of the nodes.
+	 */
+	private static boolean isPersisted(ManifestNode node) {
+		if (node instanceof TypeNode) {
+			return node.hasApiVisibility(node);
+		}
+		return switch (node.element.getElementType())
+			{
+			case IElementDescriptor.METHOD, IElementDescriptor.FIELD -> !RestrictionModifiers.isUnrestricted(node.restrictions);
+			default -> false;
+			};
+	}
+
+	private static int intern(String string, Map<String, Integer> strings) {
+		return strings.computeIfAbsent(string, s -> strings.size());
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer in) {
+		byte[] bytes = new byte[in.getInt()];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void abort(String message) throws CoreException {
+		throw new CoreException(Status.error(message));
+	}
+}
@@ -51,7 +51,6 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.internal.core.natures.PluginProject;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -158,6 +157,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (file.exists()) {
 				file.delete();
 			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
 			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 			if (file.exists() && file.isDirectory()) {
 				file.delete();
@@ -231,9 +234,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			ProjectApiDescription desc = (ProjectApiDescription) entry.getValue();
 			if (desc.isModified()) {
 				Path dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath();
-				Document xml = desc.getXML();
 				try {
-					Util.writeDocumentToFile(xml, dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+					ApiDescriptionBinaryFile.write(desc, dir.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME));
+					// the XML file of previous versions has been migrated
+					Files.deleteIfExists(dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -244,11 +248,30 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 
 	/**
 	 * Restores the API description from its saved file, if any and returns true
-	 * if successful.
+	 * if successful. The binary file is preferred, an XML file written by
+	 * previous versions is read and migrated to the binary file on next save.
 	 *
 	 * @return whether the restore succeeded
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
+		Path binary = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).toPath();
+		if (Files.isRegularFile(binary)) {
+			return ApiDescriptionBinaryFile.read(description, project, binary);
+		}
+		if (restoreXMLDescription(project, description)) {
+			description.setModified(true);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Restores the API description from its saved XML file, if any and returns
+	 * true if successful.
+	 *
+	 * @return whether the restore succeeded
+	 */
+	private boolean restoreXMLDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
 		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 		if (file.exists()) {
 			try {
@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+
+/**
+ * Index of the digests of the archives API components are loaded from and of
+ * the class files they contain.
+ * <p>
+ * The digest of an archive is computed once and kept as long as the length and
+ * the modification stamp of the archive are unchanged, the digests of its class
+ * files are computed when first requested. The index is persisted by the
+ * {@link ApiBaselineManager} next to its baseline descriptions so the digests
+ * survive restarts. Components that are not loaded from an archive have no
+ * digest, the digests of their class files are computed on every request.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class ApiDigestIndex {
+
+	/**
+	 * Name of the file the index is persisted to
+	 */
+	public static final String INDEX_FILE_NAME = "digests.index"; //$NON-NLS-1$
+
+	/**
+	 * Version of the persisted format
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * SHA-256 digest of some content
+	 */
+	public record Digest(long length, long high, long low) {
+
+		static Digest of(byte[] bytes) {
+			MessageDigest md = newMessageDigest();
+			if (md == null) {
+				return null;
+			}
+			ByteBuffer digest = ByteBuffer.wrap(md.digest(bytes));
+			return new Digest(bytes.length, digest.getLong(), digest.getLong());
+		}
+
+		static Digest of(File file) throws IOException {
+			MessageDigest md = newMessageDigest();
+			if (md == null) {
+				return null;
+			}
+			long length = 0;
+			byte[] buffer = new byte[8192];
+			try (InputStream in = Files.newInputStream(file.toPath())) {
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					md.update(buffer, 0, read);
+					length += read;
+				}
+			}
+			ByteBuffer digest = ByteBuffer.wrap(md.digest());
+			return new Digest(length, digest.getLong(), digest.getLong());
+		}
+
+		private static MessageDigest newMessageDigest() {
+			try {
+				return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			} catch (NoSuchAlgorithmException e) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Digests of an archive and of its class files
+	 */
+	private static final class Entry {
+		final long length;
+		final long lastModified;
+		final Digest digest;
+		final Map<String, Digest> types = new ConcurrentHashMap<>();
+
+		Entry(long length, long lastModified, Digest digest) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.digest = digest;
+		}
+
+		boolean isCurrent(File file) {
+			return file.length() == length && file.lastModified() == lastModified;
+		}
+	}
+
+	/**
+	 * Entries by absolute archive path
+	 */
+	private final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of components and types found unchanged through their digests
+	 */
+	private final AtomicInteger fSkippedComponents = new AtomicInteger();
+	private final AtomicInteger fSkippedTypes = new AtomicInteger();
+
+	/**
+	 * If the index has changed since it was loaded or saved
+	 */
+	private volatile boolean fDirty;
+
+	/**
+	 * Returns the digest of the archive the given component is loaded from
+	 *
+	 * @param component the API component
+	 * @return the digest or <code>null</code> if the component is not loaded
+	 *         from an archive
+	 */
+	public Digest getComponentDigest(IApiComponent component) {
+		Entry entry = getEntry(component);
+		return entry == null ? null : entry.digest;
+	}
+
+	/**
+	 * Returns the digest of the given class file
+	 *
+	 * @param component the API component the class file is coming from
+	 * @param root the class file
+	 * @return the digest or <code>null</code> if the class file cannot be read
+	 */
+	public Digest getTypeDigest(IApiComponent component, IApiTypeRoot root) {
+		if (!(root instanceof AbstractApiTypeRoot typeRoot)) {
+			return null;
+		}
+		Entry entry = getEntry(component);
+		if (entry != null) {
+			Digest digest = entry.types.get(root.getTypeName());
+			if (digest != null) {
+				return digest;
+			}
+		}
+		Digest digest;
+		try {
+			digest = Digest.of(typeRoot.getSharedContents());
+		} catch (CoreException e) {
+			return null;
+		}
+		if (entry != null && digest != null) {
+			entry.types.put(root.getTypeName(), digest);
+			fDirty = true;
+		}
+		return digest;
+	}
+
+	/**
+	 * Returns if the two given components are loaded from archives with the
+	 * same content
+	 */
+	public boolean isSameArtifact(IApiComponent component, IApiComponent component2) {
+		Digest digest = getComponentDigest(component);
+		return digest != null && digest.equals(getComponentDigest(component2));
+	}
+
+	/**
+	 * Returns if the two given class files have the same content
+	 */
+	public boolean isSameContent(IApiComponent component, IApiTypeRoot root, IApiComponent component2, IApiTypeRoot root2) {
+		Digest digest = getTypeDigest(component, root);
+		return digest != null && digest.equals(getTypeDigest(component2, root2));
+	}
+
+	private Entry getEntry(IApiComponent component) {
+		String location = component.getLocation();
+		if (location == null) {
+			return null;
+		}
+		File file = new File(location);
+		if (!file.isFile()) {
+			return null;
+		}
+		Entry entry = fEntries.get(file.getAbsolutePath());
+		if (entry != null && entry.isCurrent(file)) {
+			return entry;
+		}
+		long lastModified = file.lastModified();
+		Digest digest;
+		try {
+			digest = Digest.of(file);
+		} catch (IOException e) {
+			return null;
+		}
+		if (digest == null) {
+			return null;
+		}
+		entry = new Entry(digest.length(), lastModified, digest);
+		fEntries.put(file.getAbsolutePath(), entry);
+		fDirty = true;
+		return entry;
+	}
+
+	/**
+	 * Records that a component was found unchanged through its digest
+	 */
+	public void componentSkipped() {
+		fSkippedComponents.incrementAndGet();
+	}
+
+	/**
+	 * Records that a type was found unchanged through its digest
+	 */
+	public void typeSkipped() {
+		fSkippedTypes.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of components found unchanged through their digests
+	 */
+	public int getSkippedComponentCount() {
+		return fSkippedComponents.get();
+	}
+
+	/**
+	 * @return the number of types found unchanged through their digests
+	 */
+	public int getSkippedTypeCount() {
+		return fSkippedTypes.get();
+	}
+
+	/**
+	 * @return the number of indexed archives
+	 */
+	public int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return if the index has changed since it was loaded or saved
+	 */
+	public boolean isDirty() {
+		return fDirty;
+	}
+
+	/**
+	 * Removes all the digests of this index
+	 */
+	public void clear() {
+		fEntries.clear();
+		fDirty = true;
+	}
+
+	/**
+	 * Writes this index to the given file. Archives that no longer exist are
+	 * dropped.
+	 *
+	 * @param file the file to write to
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save(Path file) throws IOException {
+		fEntries.keySet().removeIf(location -> !new File(location).isFile());
+		Files.createDirectories(file.getParent());
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+			out.writeInt(VERSION);
+			Map<String, Entry> entries = Map.copyOf(fEntries);
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Entry> e : entries.entrySet()) {
+				Entry entry = e.getValue();
+				out.writeUTF(e.getKey());
+				out.writeLong(entry.lastModified);
+				writeDigest(out, entry.digest);
+				Map<String, Digest> types = Map.copyOf(entry.types);
+				out.writeInt(types.size());
+				for (Map.Entry<String, Digest> type : types.entrySet()) {
+					out.writeUTF(type.getKey());
+					writeDigest(out, type.getValue());
+				}
+			}
+		}
+		fDirty = false;
+	}
+
+	/**
+	 * Reads the index persisted in the given file. Nothing is read if the file
+	 * does not exist or has an unknown format.
+	 *
+	 * @param file the file to read from
+	 */
+	public void load(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return;
+		}
+		long time = System.currentTimeMillis();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String location = in.readUTF();
+				long lastModified = in.readLong();
+				Digest digest = readDigest(in);
+				Entry entry = new Entry(digest.length(), lastModified, digest);
+				int types = in.readInt();
+				for (int j = 0; j < types; j++) {
+					entry.types.put(in.readUTF(), readDigest(in));
+				}
+				fEntries.putIfAbsent(location, entry);
+			}
+		} catch (IOException e) {
+			ApiPlugin.log("Unable to read the digest index " + file, e); //$NON-NLS-1$
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to load digests of " + fEntries.size() + " archives: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeDigest(DataOutputStream out, Digest digest) throws IOException {
+		out.writeLong(digest.length());
+		out.writeLong(digest.high());
+		out.writeLong(digest.low());
+	}
+
+	private static Digest readDigest(DataInputStream in) throws IOException {
+		return new Digest(in.readLong(), in.readLong(), in.readLong());
+	}
+}
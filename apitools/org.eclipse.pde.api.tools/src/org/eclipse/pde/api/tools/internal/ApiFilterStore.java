@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,9 +76,23 @@ import org.w3c.dom.Element;
 public class ApiFilterStore extends FilterStore implements IResourceChangeListener {
 
 	/**
-	 * Map used to collect unused {@link IApiProblemFilter}s
+	 * Key of the filter index: filters can only match problems with the same
+	 * resource, type name and problem id
 	 */
-	private Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+	private record FilterKey(IResource resource, String typeName, int id) {
+	}
+
+	/**
+	 * Map used to collect unused {@link IApiProblemFilter}s, by resource and
+	 * type name
+	 */
+	private Map<IResource, Map<String, Set<IApiProblemFilter>>> fUnusedFilters = null;
+
+	/**
+	 * Index of the filters of {@link #fFilterMap} by resource, type name and
+	 * problem id, built on first use and then kept in sync with the map
+	 */
+	private Map<FilterKey, List<IApiProblemFilter>> fFilterIndex = null;
 
 	/**
 	 * The backing {@link IJavaProject}
@@ -206,7 +220,10 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			} else {
 				pfilters = pTypeNames.computeIfAbsent(typeName, n -> new HashSet<>());
 			}
-			fNeedsSaving |= pfilters.add(filter);
+			if (pfilters.add(filter)) {
+				fNeedsSaving = true;
+				indexFilter(resource, typeName, filter);
+			}
 		}
 		persistApiFilters();
 	}
@@ -254,7 +271,11 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			return false;
 		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
+		String typeName = problem.getTypeName();
+		if (typeName == null) {
+			typeName = GLOBAL;
+		}
+		List<IApiProblemFilter> filters = getFilterIndex().get(new FilterKey(resource, typeName, problem.getId()));
 		if (filters == null) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
 				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -331,6 +352,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			Set<IApiProblemFilter> pfilters = pTypeNames.get(typeName);
 			if (pfilters != null && pfilters.remove(filter)) {
+				unindexFilter(resource, typeName, filter);
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("removed filter: [" + filter + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 				}
@@ -520,7 +542,53 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					pTypeNames.put(typeName, filters);
 				}
 			}
-			fNeedsSaving |= filters.add(filter);
+			if (filters.add(filter)) {
+				fNeedsSaving = true;
+				indexFilter(resource, typeName, filter);
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the filters, building it if needed. Must be called
+	 * holding the lock of this store, after the filters have been initialized.
+	 *
+	 * @return the index of the filters
+	 */
+	private Map<FilterKey, List<IApiProblemFilter>> getFilterIndex() {
+		if (fFilterIndex == null) {
+			Map<FilterKey, List<IApiProblemFilter>> index = new HashMap<>();
+			for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fFilterMap.entrySet()) {
+				for (Entry<String, Set<IApiProblemFilter>> types : entry.getValue().entrySet()) {
+					for (IApiProblemFilter filter : types.getValue()) {
+						index.computeIfAbsent(new FilterKey(entry.getKey(), types.getKey(), filter.getUnderlyingProblem().getId()), k -> new ArrayList<>(1)).add(filter);
+					}
+				}
+			}
+			fFilterIndex = index;
+		}
+		return fFilterIndex;
+	}
+
+	/**
+	 * Adds the given filter to the index, if it has been built
+	 */
+	private void indexFilter(IResource resource, String typeName, IApiProblemFilter filter) {
+		if (fFilterIndex != null) {
+			fFilterIndex.computeIfAbsent(new FilterKey(resource, typeName, filter.getUnderlyingProblem().getId()), k -> new ArrayList<>(1)).add(filter);
+		}
+	}
+
+	/**
+	 * Removes the given filter from the index, if it has been built
+	 */
+	private void unindexFilter(IResource resource, String typeName, IApiProblemFilter filter) {
+		if (fFilterIndex != null) {
+			FilterKey key = new FilterKey(resource, typeName, filter.getUnderlyingProblem().getId());
+			List<IApiProblemFilter> filters = fFilterIndex.get(key);
+			if (filters != null && filters.remove(filter) && filters.isEmpty()) {
+				fFilterIndex.remove(key);
+			}
 		}
 	}
 
@@ -555,15 +623,15 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	public synchronized void recordFilterUsage() {
 		initializeApiFilters();
 		fUnusedFilters = new LinkedHashMap<>();
-		Map<String, Set<IApiProblemFilter>> types = null;
-		Set<IApiProblemFilter> values = null;
 		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : fFilterMap.entrySet()) {
-			IResource resource = filterEntry.getKey();
-			types = filterEntry.getValue();
-			values = new LinkedHashSet<>();
-			fUnusedFilters.put(resource, values);
-			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
-				values.addAll(entry.getValue());
+			Map<String, Set<IApiProblemFilter>> types = new LinkedHashMap<>();
+			for (Entry<String, Set<IApiProblemFilter>> entry : filterEntry.getValue().entrySet()) {
+				if (!entry.getValue().isEmpty()) {
+					types.put(entry.getKey(), new LinkedHashSet<>(entry.getValue()));
+				}
+			}
+			if (!types.isEmpty()) {
+				fUnusedFilters.put(filterEntry.getKey(), types);
 			}
 		}
 	}
@@ -573,11 +641,18 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 */
 	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
 		if (fUnusedFilters != null) {
-			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
-			if (unused != null) {
-				unused.remove(filter);
-				if (unused.isEmpty()) {
-					fUnusedFilters.remove(resource);
+			Map<String, Set<IApiProblemFilter>> types = fUnusedFilters.get(resource);
+			if (types != null) {
+				String typeName = filter.getUnderlyingProblem().getTypeName();
+				if (typeName == null) {
+					typeName = GLOBAL;
+				}
+				Set<IApiProblemFilter> unused = types.get(typeName);
+				if (unused != null && unused.remove(filter) && unused.isEmpty()) {
+					types.remove(typeName);
+					if (types.isEmpty()) {
+						fUnusedFilters.remove(resource);
+					}
 				}
 			}
 		}
@@ -597,12 +672,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	public IApiProblemFilter[] getUnusedFilters(IResource resource, String typeName, int[] categories) {
 		if (fUnusedFilters != null) {
 			Set<IApiProblemFilter> unused = new HashSet<>();
-			Set<IApiProblemFilter> set = null;
+			int ignored = getCategoryMask(categories);
+			Map<String, Set<IApiProblemFilter>> types = null;
 			if (resource != null) {
 				// add any unused filters for the resource
-				set = fUnusedFilters.get(resource);
-				if (set != null) {
-					collectFilterFor(set, typeName, unused, categories);
+				types = fUnusedFilters.get(resource);
+				if (types != null) {
+					collectFilterFor(types, typeName, unused, ignored);
 				}
 				if (Util.isManifest(resource.getProjectRelativePath())) {
 					// we need to add any filters that are cached for resources
@@ -610,19 +686,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					// deleted types are only ever passed in with the manifest
 					// associated with them
 					IResource res = null;
-					for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+					for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fUnusedFilters.entrySet()) {
 						res = entry.getKey();
 						if (res == null || !res.exists() || !res.getProject().equals(resource.getProject())) {
 							continue;
 						}
-						set = fUnusedFilters.get(res);
-						collectFilterFor(set, typeName, unused, categories);
+						collectFilterFor(entry.getValue(), typeName, unused, ignored);
 					}
 				}
 			} else {
-				for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
-					set = entry.getValue();
-					if (set != null) {
+				for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fUnusedFilters.entrySet()) {
+					for (Set<IApiProblemFilter> set : entry.getValue().values()) {
 						unused.addAll(set);
 					}
 				}
@@ -637,44 +711,61 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	/**
-	 * Collects the complete set of problem filters from the given set whose
-	 * underlying problem categories do not match any from the given array and
-	 * whose type name matches the underlying problem type name.
+	 * Collects the complete set of problem filters from the given map of type
+	 * names to filters whose underlying problem categories are not in the given
+	 * bit mask and whose type name matches the given type name, or is not
+	 * <code>null</code> if no type name is given.
 	 */
-	private void collectFilterFor(Set<IApiProblemFilter> filters, String typename, Set<IApiProblemFilter> collector, int[] categories) {
+	private void collectFilterFor(Map<String, Set<IApiProblemFilter>> types, String typename, Set<IApiProblemFilter> collector, int ignored) {
+		if (typename != null) {
+			Set<IApiProblemFilter> filters = types.get(typename);
+			if (filters != null) {
+				collectFilterFor(filters, collector, ignored);
+			}
+		} else {
+			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
+				if (entry.getKey() != GLOBAL) {
+					collectFilterFor(entry.getValue(), collector, ignored);
+				}
+			}
+		}
+	}
+
+	private void collectFilterFor(Set<IApiProblemFilter> filters, Set<IApiProblemFilter> collector, int ignored) {
 		for (IApiProblemFilter filter : filters) {
 			IApiProblem underlyingProblem = filter.getUnderlyingProblem();
-			if (underlyingProblem != null) {
-				if (matchesCategory(underlyingProblem, categories)) {
-					continue;
-				}
-				String underlyingTypeName = underlyingProblem.getTypeName();
-				if (underlyingTypeName != null && (typename == null || underlyingTypeName.equals(typename))) {
-					collector.add(filter);
-				}
+			if (underlyingProblem != null && (getCategoryBit(underlyingProblem.getCategory()) & ignored) == 0) {
+				collector.add(filter);
 			}
 		}
 	}
 
 	/**
-	 * Returns if the category of the given problem matches one of the
-	 * categories given in the collection. If the collection of categories is
-	 * <code>null</code> the problem does not match.
+	 * Returns the bit representing the given problem category in a category
+	 * mask. Categories are stored in the four highest bits of problem ids.
 	 *
-	 * @return true if the given collection contains the given problems'
-	 *         category, false otherwise
-	 * @since 1.1
+	 * @param category an {@link IApiProblem} category
+	 * @return the bit of the category
 	 */
-	private boolean matchesCategory(IApiProblem problem, int[] categories) {
+	private static int getCategoryBit(int category) {
+		return 1 << (category >>> 28);
+	}
+
+	/**
+	 * Returns the bit mask of the given categories, <code>0</code> if the
+	 * collection of categories is <code>null</code>
+	 *
+	 * @param categories {@link IApiProblem} categories or <code>null</code>
+	 * @return the mask of the categories
+	 */
+	private static int getCategoryMask(int[] categories) {
+		int mask = 0;
 		if (categories != null) {
-			int cat = problem.getCategory();
-			for (int categorie : categories) {
-				if (cat == categorie) {
-					return true;
-				}
+			for (int category : categories) {
+				mask |= getCategoryBit(category);
 			}
 		}
-		return false;
+		return mask;
 	}
 
 	@Override
@@ -708,6 +799,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				}
 				if (fFilterMap != null) {
 					fFilterMap.clear();
+					fFilterIndex = null;
 					needsbuild = fProject.getProject().isAccessible();
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
@@ -744,5 +836,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fFilterIndex = null;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -149,6 +149,17 @@ public class CompilationUnit {
 		return this.encoding;
 	}
 
+	/**
+	 * Returns the path of the file of this compilation unit
+	 *
+	 * @return the file path or <code>null</code> if this compilation unit is
+	 *         backed by an {@link ICompilationUnit}
+	 * @since 1.3.600
+	 */
+	public String getPath() {
+		return filepath;
+	}
+
 	@Override
 	public String toString() {
 		return getName();
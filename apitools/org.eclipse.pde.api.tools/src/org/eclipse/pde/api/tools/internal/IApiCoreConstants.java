@@ -47,6 +47,12 @@ public interface IApiCoreConstants {
 	 * <code>.api_description</code>
 	 */
 	public static final String API_DESCRIPTION_XML_NAME = ".api_description"; //$NON-NLS-1$
+	/**
+	 * Constant representing the name of the binary file a project API
+	 * description is persisted to in the state location. Value is
+	 * <code>.api_description.bin</code>
+	 */
+	public static final String API_DESCRIPTION_BINARY_NAME = ".api_description.bin"; //$NON-NLS-1$
 	/**
 	 * Constant representing the name of API description XML file. Value is
 	 * <code>.api_description</code>
@@ -99,6 +99,12 @@ public class ProjectApiDescription extends ApiDescription {
 
 		IPackageFragment[] fFragments;
 
+		/**
+		 * Restores the children of this node on first access, or
+		 * <code>null</code> if they are present
+		 */
+		private ApiDescriptionBinaryFile.ChildrenLoader fChildrenLoader;
+
 		/**
 		 * Constructs a new node.
 		 */
@@ -107,8 +113,34 @@ public class ProjectApiDescription extends ApiDescription {
 			fFragments = fragments;
 		}
 
+		/**
+		 * Sets the loader that restores the children of this node the first
+		 * time they are needed.
+		 */
+		synchronized void setChildrenLoader(ApiDescriptionBinaryFile.ChildrenLoader loader) {
+			fChildrenLoader = loader;
+		}
+
+		/**
+		 * Restores the children of this node if that has not happened yet. If
+		 * they cannot be restored they are re-created when looked up.
+		 */
+		synchronized void loadChildren() {
+			ApiDescriptionBinaryFile.ChildrenLoader loader = fChildrenLoader;
+			if (loader != null) {
+				fChildrenLoader = null;
+				try {
+					loader.load();
+				} catch (CoreException e) {
+					ApiPlugin.log(e.getStatus());
+					children.clear();
+				}
+			}
+		}
+
 		@Override
 		protected ManifestNode refresh() {
+			loadChildren();
 			refreshPackages();
 			for (IPackageFragment fFragment : fFragments) {
 				if (!fFragment.exists()) {
@@ -121,6 +153,7 @@ public class ProjectApiDescription extends ApiDescription {
 
 		@Override
 		void persistXML(Document document, Element parentElement) {
+			loadChildren();
 			if (hasApiVisibility(this)) {
 				Element pkg = document.createElement(IApiXmlConstants.ELEMENT_PACKAGE);
 				for (IPackageFragment fFragment : fFragments) {
@@ -0,0 +1,440 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread safe least recently used cache that, unlike a synchronized
+ * {@link org.eclipse.jdt.internal.core.OverflowingLRUCache}, does not serialize
+ * all accesses on one monitor. Entries are spread over a number of segments by
+ * the hash of their key, each segment being an access ordered map guarded by
+ * its own lock, so threads working on different keys rarely contend. The
+ * least recently used order is kept per segment only, so the entries evicted
+ * are the least recently used ones of their segment, not of the whole cache.
+ * <p>
+ * The space limit and the overflow are divided evenly among the segments. By
+ * default every entry uses one unit of space; weighted caches instead account
+ * the space returned by {@link #spaceFor(Object)} when the entry is put.
+ * Weighted caches hold few large entries, so they use a single segment: a
+ * share of the limit would evict an entry long before the cache is full.
+ * </p>
+ * <p>
+ * Nothing is evicted while a segment uses no more space than its share of the
+ * limit plus its share of the overflow, so the overflow is a tolerance that
+ * lets a segment grow beyond its limit. Once a segment exceeds it, its
+ * entries are offered to {@link #close(Object, Object)} from the least to the
+ * most recently used one, skipping the entry just added, until the segment is
+ * back at its share of the limit. Entries that refuse to be closed are kept and
+ * the next entry is offered instead; if not enough entries can be closed the
+ * segment stays above its limit until the next put. Unlike
+ * {@link org.eclipse.jdt.internal.core.OverflowingLRUCache}, there is no
+ * separate accounting of the overflow caused by entries that refused to be
+ * closed and no time stamp or load factor driven shrinking. Entries are only
+ * closed when evicted, not when removed or flushed.
+ * </p>
+ * <p>
+ * Hit, miss and eviction counts are kept for diagnostics.
+ * </p>
+ */
+public abstract class StripedOverflowingLRUCache<K, V> {
+
+	/**
+	 * Maximum number of segments
+	 */
+	private static final int MAX_SEGMENTS = 16;
+
+	/**
+	 * Minimum share of the space limit per segment, smaller caches use fewer
+	 * segments to stay close to a global LRU order
+	 */
+	private static final int MIN_SEGMENT_SIZE = 32;
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+		int limit;
+		int overflow;
+		/**
+		 * Space accounted for each entry, <code>null</code> if every entry
+		 * uses one unit of space
+		 */
+		final HashMap<K, Integer> weights;
+		long space;
+
+		Segment(int limit, int overflow, boolean weighted) {
+			super(16, 0.75f, true);
+			this.limit = limit;
+			this.overflow = overflow;
+			this.weights = weighted ? new HashMap<>() : null;
+		}
+
+		long used() {
+			return weights == null ? size() : space;
+		}
+
+		void account(K key, int weight) {
+			if (weights != null) {
+				Integer old = weights.put(key, Integer.valueOf(weight));
+				space += weight - (old == null ? 0 : old.intValue());
+			}
+		}
+
+		void unaccount(Object key) {
+			if (weights != null) {
+				Integer old = weights.remove(key);
+				if (old != null) {
+					space -= old.intValue();
+				}
+			}
+		}
+
+		@Override
+		public void clear() {
+			super.clear();
+			if (weights != null) {
+				weights.clear();
+				space = 0;
+			}
+		}
+	}
+
+	private final Segment<K, V>[] fSegments;
+	private final int fOverflow;
+	private volatile int fSpaceLimit;
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
+
+	/**
+	 * Creates a new cache without overflow
+	 *
+	 * @param size the space limit of the cache
+	 */
+	public StripedOverflowingLRUCache(int size) {
+		this(size, 0);
+	}
+
+	/**
+	 * Creates a new cache
+	 *
+	 * @param size the space limit of the cache
+	 * @param overflow the number of entries the cache may exceed its limit by
+	 *            before entries are evicted
+	 */
+	public StripedOverflowingLRUCache(int size, int overflow) {
+		this(size, overflow, false);
+	}
+
+	/**
+	 * Creates a new cache
+	 *
+	 * @param size the space limit of the cache
+	 * @param overflow the space the cache may exceed its limit by before
+	 *            entries are evicted
+	 * @param weighted whether the space of the entries is given by
+	 *            {@link #spaceFor(Object)} rather than one unit per entry
+	 */
+	@SuppressWarnings("unchecked")
+	public StripedOverflowingLRUCache(int size, int overflow, boolean weighted) {
+		int count = weighted ? 1 : Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, size / MIN_SEGMENT_SIZE)));
+		fSegments = new Segment[count];
+		fOverflow = overflow;
+		fSpaceLimit = size;
+		for (int i = 0; i < count; i++) {
+			fSegments[i] = new Segment<>(Math.max(1, share(size, count)), share(overflow, count), weighted);
+		}
+	}
+
+	private static int share(int value, int count) {
+		return (value + count - 1) / count;
+	}
+
+	private Segment<K, V> segmentFor(Object key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return fSegments[h & (fSegments.length - 1)];
+	}
+
+	/**
+	 * Called when the given entry is about to be evicted from the cache.
+	 *
+	 * @param key the key of the entry
+	 * @param value the value of the entry
+	 * @return <code>true</code> if the entry could be closed and may be
+	 *         evicted, <code>false</code> to keep it in the cache
+	 */
+	protected abstract boolean close(K key, V value);
+
+	/**
+	 * Returns the space used by the given value in a weighted cache. The space
+	 * is computed when the value is put in the cache, values that grow
+	 * afterwards need to be put again for their new size to be accounted.
+	 *
+	 * @param value the value
+	 * @return the space used by the value
+	 */
+	protected int spaceFor(V value) {
+		return 1;
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as most recently
+	 * used.
+	 *
+	 * @param key the key
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			value = segment.get(key);
+		}
+		if (value == null) {
+			fMisses.increment();
+		} else {
+			fHits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Caches the given value, possibly evicting least recently used entries.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		int weight = segment.weights == null ? 1 : spaceFor(value);
+		synchronized (segment) {
+			V old = segment.put(key, value);
+			segment.account(key, weight);
+			makeSpace(segment, key);
+			return old;
+		}
+	}
+
+	/**
+	 * Returns the value cached for the given key. If there is none, the value
+	 * is computed with the given function and cached, atomically with respect
+	 * to other calls for keys of the same segment.
+	 *
+	 * @param key the key
+	 * @param function function computing the value, must not access this cache
+	 * @return the cached or computed value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			V value = segment.get(key);
+			if (value != null) {
+				fHits.increment();
+				return value;
+			}
+			fMisses.increment();
+			value = function.apply(key);
+			if (value != null) {
+				segment.put(key, value);
+				segment.account(key, segment.weights == null ? 1 : spaceFor(value));
+				makeSpace(segment, key);
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Removes the entry for the given key without closing it.
+	 *
+	 * @param key the key
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			segment.unaccount(key);
+			return segment.remove(key);
+		}
+	}
+
+	/**
+	 * Evicts least recently used entries once the segment exceeds its limit
+	 * plus overflow. Must be called holding the lock of the segment.
+	 *
+	 * @param added the key of the entry just added, which is not evicted, or
+	 *            <code>null</code>
+	 */
+	private void makeSpace(Segment<K, V> segment, K added) {
+		if (segment.used() <= segment.limit + segment.overflow) {
+			return;
+		}
+		for (Iterator<Entry<K, V>> iter = segment.entrySet().iterator(); iter.hasNext() && segment.used() > segment.limit;) {
+			Entry<K, V> entry = iter.next();
+			if (entry.getKey() != added && close(entry.getKey(), entry.getValue())) {
+				segment.unaccount(entry.getKey());
+				iter.remove();
+				fEvictions.increment();
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries without closing them.
+	 */
+	public void flush() {
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns if the cache has any elements in it or not
+	 *
+	 * @return true if the cache has no entries, false otherwise
+	 */
+	public boolean isEmpty() {
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				if (!segment.isEmpty()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the space used by the entries currently in the cache, which is
+	 *         their number unless the cache is weighted
+	 */
+	public long getSpaceUsed() {
+		long used = 0;
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				used += segment.used();
+			}
+		}
+		return used;
+	}
+
+	/**
+	 * @return the number of entries currently in the cache
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return MT-safe snapshot of the keys in the cache.
+	 */
+	public List<K> keysSnapshot() {
+		List<K> keys = new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				keys.addAll(segment.keySet());
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * @return MT-safe snapshot of the elements in the cache.
+	 */
+	public List<V> elementsSnapshot() {
+		List<V> elements = new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				elements.addAll(segment.values());
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Sets the space limit of the cache, evicting entries as needed
+	 *
+	 * @param limit the new space limit
+	 */
+	public void setSpaceLimit(int limit) {
+		fSpaceLimit = limit;
+		int limitShare = Math.max(1, share(limit, fSegments.length));
+		int overflowShare = share(fOverflow, fSegments.length);
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				segment.limit = limitShare;
+				segment.overflow = overflowShare;
+				makeSpace(segment, null);
+			}
+		}
+	}
+
+	/**
+	 * @return the space limit of the cache
+	 */
+	public int getSpaceLimit() {
+		return fSpaceLimit;
+	}
+
+	/**
+	 * @return the space the cache currently uses above its limit, within the
+	 *         overflow or because entries could not be closed
+	 */
+	public int getOverflow() {
+		return (int) Math.max(0, getSpaceUsed() - fSpaceLimit);
+	}
+
+	/**
+	 * @return the number of lookups that found a cached value
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that did not find a cached value
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of entries evicted to make space
+	 */
+	public long getEvictionCount() {
+		return fEvictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + size() + ", limit=" + fSpaceLimit + ", segments=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ fSegments.length + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ getEvictionCount() + "]"; //$NON-NLS-1$
+	}
+}
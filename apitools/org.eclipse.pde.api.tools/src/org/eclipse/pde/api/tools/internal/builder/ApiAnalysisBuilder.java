@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,7 +26,6 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.jar.JarFile;
 
 import org.eclipse.core.resources.IFile;
@@ -38,7 +37,6 @@ import org.eclipse.core.resources.IResourceStatus;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -175,8 +173,6 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	private BuildState buildstate = null;
 
-	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
-
 	/**
 	 * Bug 549838:  In case auto-building on a API tools settings change  is not desired,
 	 * specify VM property: {@code -Dorg.eclipse.disableAutoBuildOnSettingsChange=true}
@@ -188,7 +184,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	void cleanupMarkers(IResource resource) {
 		if (isRunningAsJob()) {
-			new ApiAnalysisMarkersJob(() -> cleanupMarkersInternally(resource)).schedule();
+			ApiAnalysisMarkersJob.submit(currentproject, () -> cleanupMarkersInternally(resource));
 		} else {
 			cleanupMarkersInternally(resource);
 		}
@@ -216,17 +212,17 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning api use problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
+				MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
 
 				IProject project = resource.getProject();
-				IMarker[] markers = project.findMarkers(IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+				IMarker[] markers = MarkerBatch.findMarkers(project, IApiMarkerConstants.API_USESCAN_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
 				for (IMarker marker : markers) {
 					String typeName = marker.getAttribute(IApiMarkerConstants.API_USESCAN_TYPE, null);
 					IJavaElement adaptor = resource.getAdapter(IJavaElement.class);
 					if (adaptor != null && adaptor instanceof ICompilationUnit) {
 						IType typeroot = ((ICompilationUnit) adaptor).findPrimaryType();
 						if (typeroot != null && typeName != null && typeName.startsWith(typeroot.getFullyQualifiedName())) {
-							marker.delete();
+							MarkerBatch.delete(marker);
 						}
 					}
 				}
@@ -245,7 +241,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning unsupported tag problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -264,7 +260,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder: cleaning unsupported annotation problems"); //$NON-NLS-1$
 				}
-				resource.deleteMarkers(IApiMarkerConstants.UNSUPPORTED_ANNOTATION_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.UNSUPPORTED_ANNOTATION_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -279,13 +275,13 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupCompatibilityMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
-				resource.deleteMarkers(IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 				if (resource.getType() == IResource.PROJECT) {
 					// on full builds
-					resource.deleteMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
-					resource.deleteMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
-					resource.deleteMarkers(IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+					MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+					MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+					MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
 				}
 			}
 		} catch (CoreException e) {
@@ -299,11 +295,11 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupUsageMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 				if (resource.getType() != IResource.PROJECT) {
 					IProject pj = resource.getProject();
 					if (pj != null) {
-						pj.deleteMarkers(IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+						MarkerBatch.deleteMarkers(pj, IApiMarkerConstants.API_USAGE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
 					}
 				}
 			}
@@ -318,7 +314,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanupFatalMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.FATAL_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.FATAL_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e.getStatus());
@@ -331,7 +327,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	void cleanUnusedFilterMarkers(IResource resource) {
 		try {
 			if (resource != null && resource.isAccessible()) {
-				resource.deleteMarkers(IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+				MarkerBatch.deleteMarkers(resource, IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			}
 		} catch (CoreException ce) {
 			ApiPlugin.log(ce.getStatus());
@@ -403,6 +399,11 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 					buildAll(baseline, wbaseline, switchMonitor);
 				} else if (worthDoingFullBuild(projects)) {
 					buildAll(baseline, wbaseline, switchMonitor);
+				} else if (this.buildstate.isReferenceIndexStale(BuildState.computeBuildPathCRC(currentproject))) {
+					if (ApiPlugin.DEBUG_BUILDER) {
+						System.out.println("ApiAnalysisBuilder: Performing full build since the reference index is stale"); //$NON-NLS-1$
+					}
+					buildAll(baseline, wbaseline, switchMonitor);
 				} else {
 					IResourceDelta[] deltas = getDeltas(projects);
 					if (deltas.length < 1) {
@@ -838,7 +839,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 		boolean runAsJob = isRunningAsJob();
 		if (runAsJob) {
-			new ApiAnalysisMarkersJob(task).schedule();
+			ApiAnalysisMarkersJob.submit(project, task);
 		} else {
 			task.run();
 		}
@@ -924,45 +925,6 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
-	/**
-	 * Creates or removes markers, uses the current project rule.
-	 * The tasks to do are maintained by markersQueue and executed in the submission order
-	 */
-	class ApiAnalysisMarkersJob extends WorkspaceJob {
-
-		public ApiAnalysisMarkersJob(Runnable task) {
-			super("Updating API analysis markers on " + currentproject.getName()); //$NON-NLS-1$
-			markersQueue.add(task);
-			setRule(currentproject);
-			setSystem(true);
-		}
-
-		@Override
-		public boolean belongsTo(Object family) {
-			return super.belongsTo(family) || ApiAnalysisMarkersJob.class == family;
-		}
-
-		@Override
-		public boolean shouldRun() {
-			return !markersQueue.isEmpty();
-		}
-
-		@Override
-		public boolean shouldSchedule() {
-			return !markersQueue.isEmpty();
-		}
-
-		@Override
-		public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
-			while (!markersQueue.isEmpty()) {
-				Runnable task = markersQueue.poll();
-				task.run();
-			}
-			return Status.OK_STATUS;
-		}
-
-	}
-
 	/**
 	 * Creates new markers are for the listing of problems added to this
 	 * reporter. If no problems have been added to this reporter, or we are not
@@ -971,7 +933,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	protected void createMarkers() {
 		IApiProblem[] problems = getAnalyzer().getProblems();
 		if (isRunningAsJob()) {
-			new ApiAnalysisMarkersJob(() -> createMarkersInternally(problems)).schedule();
+			ApiAnalysisMarkersJob.submit(currentproject, () -> createMarkersInternally(problems));
 		} else {
 			createMarkersInternally(problems);
 		}
@@ -986,10 +948,10 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		try {
 			IResource manifest = Util.getManifestFile(this.currentproject);
 			if (manifest != null) {
-				manifest.deleteMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+				MarkerBatch.deleteMarkers(manifest, IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
 			}
-			this.currentproject.deleteMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
-			this.currentproject.deleteMarkers(IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+			MarkerBatch.deleteMarkers(this.currentproject, IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+			MarkerBatch.deleteMarkers(this.currentproject, IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
 		} catch (CoreException e) {
 			ApiPlugin.log(e);
 		}
@@ -1072,7 +1034,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 		try {
 			if (category == IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM) {
-				IMarker[] markers = resource.findMarkers(type, true, IResource.DEPTH_ZERO);
+				IMarker[] markers = MarkerBatch.findMarkers(resource, type, true, IResource.DEPTH_ZERO);
 				for (IMarker marker : markers) {
 					String msg = marker.getAttribute(IMarker.MESSAGE, null);
 					if (msg == null || msg.equalsIgnoreCase(problem.getMessage())) {
@@ -1082,26 +1044,10 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 							return; // Marker already exists
 						}
 					} else {
-						marker.delete(); // create the marker afresh
+						MarkerBatch.delete(marker); // create the marker afresh
 					}
 				}
 			}
-			IMarker marker = null;
-			if (problem.getKind() == IApiProblem.API_BASELINE_MISMATCH
-					&& category == IApiProblem.CATEGORY_API_BASELINE) {
-				// need a workspace marker
-				IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-				IMarker[] findMarkers = root.findMarkers(type, false, IResource.DEPTH_ZERO);
-				if (findMarkers.length == 0) {
-					marker = root.createMarker(type);
-				}
-				else {
-					marker = findMarkers[0];
-				}
-			} else {
-				marker = resource.createMarker(type);
-			}
-
 			int line = problem.getLineNumber();
 			switch (category)
 				{
@@ -1115,27 +1061,45 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 					line++;
 				}
 			}
-			marker.setAttributes(new String[] {
-					IMarker.MESSAGE, IMarker.SEVERITY, IMarker.LINE_NUMBER,
-					IMarker.CHAR_START, IMarker.CHAR_END, IMarker.SOURCE_ID,
-					IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID }, new Object[] {
-					problem.getMessage(),
-					Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject)),
-					Integer.valueOf(line), Integer.valueOf(problem.getCharStart()),
-					Integer.valueOf(problem.getCharEnd()),
-					ApiAnalysisBuilder.SOURCE, Integer.valueOf(problem.getId()) });
+			Map<String, Object> attributes = new HashMap<>();
+			attributes.put(IMarker.MESSAGE, problem.getMessage());
+			attributes.put(IMarker.SEVERITY, Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject)));
+			attributes.put(IMarker.LINE_NUMBER, Integer.valueOf(line));
+			attributes.put(IMarker.CHAR_START, Integer.valueOf(problem.getCharStart()));
+			attributes.put(IMarker.CHAR_END, Integer.valueOf(problem.getCharEnd()));
+			attributes.put(IMarker.SOURCE_ID, ApiAnalysisBuilder.SOURCE);
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID, Integer.valueOf(problem.getId()));
 			// add message arguments, if any
 			String[] args = problem.getMessageArguments();
 			if (args.length > 0) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
+				attributes.put(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
 			}
 			String typeName = problem.getTypeName();
 			if (typeName != null) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
+				attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
 			}
 			// add all other extra arguments, if any
-			if (problem.getExtraMarkerAttributeIds().length > 0) {
-				marker.setAttributes(problem.getExtraMarkerAttributeIds(), problem.getExtraMarkerAttributeValues());
+			String[] extraIds = problem.getExtraMarkerAttributeIds();
+			Object[] extraValues = problem.getExtraMarkerAttributeValues();
+			for (int i = 0; i < extraIds.length; i++) {
+				attributes.put(extraIds[i], extraValues[i]);
+			}
+			IMarker marker = null;
+			if (problem.getKind() == IApiProblem.API_BASELINE_MISMATCH
+					&& category == IApiProblem.CATEGORY_API_BASELINE) {
+				// need a workspace marker
+				IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+				IMarker[] findMarkers = MarkerBatch.findMarkers(root, type, false, IResource.DEPTH_ZERO);
+				if (findMarkers.length == 0) {
+					marker = MarkerBatch.createMarker(root, type, attributes);
+				}
+				else {
+					marker = findMarkers[0];
+					marker.setAttributes(attributes.keySet().toArray(new String[attributes.size()]), attributes.values().toArray());
+				}
+			} else {
+				// an identical marker deleted in the current batch is kept
+				marker = MarkerBatch.createMarker(resource, type, attributes);
 			}
 			if (ApiPlugin.DEBUG_BUILDER) {
 				System.out.println("ApiAnalysisBuilder: Created the marker: " + marker.getId() + " - " + marker.getAttributes().entrySet()); //$NON-NLS-1$ //$NON-NLS-2$
@@ -1210,7 +1174,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			cleanupCompatibilityMarkers(this.currentproject);
 			cleanupUnsupportedTagMarkers(this.currentproject);
 			cleanupUnsupportedAnnotationMarkers(this.currentproject);
-			this.currentproject.deleteMarkers(IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
+			MarkerBatch.deleteMarkers(this.currentproject, IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER, false, IResource.DEPTH_INFINITE);
 			localmonitor.split(1);
 			// clean up the .api_settings
 			cleanupApiDescription(this.currentproject);
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Creates or removes the API analysis markers when the analysis runs as a job.
+ * The tasks of all projects are queued and executed in the submission order by
+ * a single job, which writes everything queued since its last run in one
+ * {@link MarkerBatch} and one workspace operation, so that many builds finishing
+ * at once cause a single resource change notification instead of one per task.
+ */
+final class ApiAnalysisMarkersJob extends Job {
+
+	private record Task(IProject project, Runnable runnable) {
+	}
+
+	private static final ConcurrentLinkedQueue<Task> fgTasks = new ConcurrentLinkedQueue<>();
+
+	private static final ApiAnalysisMarkersJob fgJob = new ApiAnalysisMarkersJob();
+
+	private ApiAnalysisMarkersJob() {
+		super("Updating API analysis markers"); //$NON-NLS-1$
+		setSystem(true);
+	}
+
+	/**
+	 * Queues the given task updating the markers of the given project
+	 *
+	 * @param project the project whose markers are updated
+	 * @param task the task to run
+	 */
+	static void submit(IProject project, Runnable task) {
+		fgTasks.add(new Task(project, task));
+		fgJob.schedule();
+	}
+
+	@Override
+	public boolean belongsTo(Object family) {
+		return super.belongsTo(family) || ApiAnalysisMarkersJob.class == family;
+	}
+
+	@Override
+	public boolean shouldRun() {
+		return !fgTasks.isEmpty();
+	}
+
+	@Override
+	public boolean shouldSchedule() {
+		return !fgTasks.isEmpty();
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		List<Runnable> tasks = new ArrayList<>();
+		ISchedulingRule rule = null;
+		int projects = 0;
+		Task task;
+		while ((task = fgTasks.poll()) != null) {
+			tasks.add(task.runnable());
+			if (rule == null || !rule.contains(task.project())) {
+				rule = MultiRule.combine(rule, task.project());
+				projects++;
+			}
+		}
+		if (tasks.isEmpty()) {
+			return Status.OK_STATUS;
+		}
+		long start = System.currentTimeMillis();
+		MarkerBatch batch = new MarkerBatch();
+		try {
+			ResourcesPlugin.getWorkspace().run(m -> batch.apply(tasks), rule, IWorkspace.AVOID_UPDATE, monitor);
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+		}
+		if (ApiPlugin.DEBUG_BUILDER) {
+			System.out.println("ApiAnalysisBuilder: Updated markers of " + projects + " projects with " + tasks.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " tasks in " + (System.currentTimeMillis() - start) + "ms (" + batch.fCreated + " created, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ batch.fKept + " kept, " + batch.fRemoved + " deleted)"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return Status.OK_STATUS;
+	}
+}
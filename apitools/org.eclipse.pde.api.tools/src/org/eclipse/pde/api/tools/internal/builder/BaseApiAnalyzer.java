@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,10 +27,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.jar.JarFile;
 
 import org.eclipse.core.resources.IFile;
@@ -64,6 +69,7 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.BinaryType;
 import org.eclipse.jface.text.BadLocationException;
@@ -124,6 +130,11 @@ import org.osgi.framework.VersionRange;
  */
 public class BaseApiAnalyzer implements IApiAnalyzer {
 	private static final String QUALIFIER = "qualifier"; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of compilation units parsed together when validating tags
+	 */
+	private static final int TAG_VALIDATION_BATCH_SIZE = 64;
 	/**
 	 * @since 1.1
 	 */
@@ -278,7 +289,8 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				localMonitor.split(1);
 				checkfilters = true;
 			} else {
-
+				// keep the reference index of the build state up to date
+				this.fBuildState = state;
 				// check default baseline
 				checkDefaultBaselineSet();
 				localMonitor.split(2);
@@ -1121,40 +1133,41 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		if (tags && annotations) {
 			return;
 		}
-		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_validating_javadoc_tags, 1);
+		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_validating_javadoc_tags, 2);
+		Set<ICompilationUnit> units = new LinkedHashSet<>();
 		if (context.hasTypes()) {
 			String[] typenames = context.getStructurallyChangedTypes();
-			localMonitor.setWorkRemaining(typenames.length);
+			SubMonitor collectMonitor = localMonitor.split(1).setWorkRemaining(typenames.length);
 			for (String typename : typenames) {
 				if (typename == null) {
 					continue;
 				}
-				localMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_scanning_0, typename));
-				processType(typename, !tags, !annotations);
-				localMonitor.split(1);
+				collectMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_scanning_0, typename));
+				collectType(typename, units);
+				collectMonitor.split(1);
 			}
 		} else {
 			try {
 				IPackageFragmentRoot[] roots = fJavaProject.getPackageFragmentRoots();
-
-				localMonitor.setWorkRemaining(roots.length);
+				SubMonitor collectMonitor = localMonitor.split(1).setWorkRemaining(roots.length);
 				for (IPackageFragmentRoot root : roots) {
 					if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
-						localMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_scanning_0, root.getPath().toOSString()));
-						scanSource(root, !tags, !annotations, localMonitor.split(1));
+						collectMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_scanning_0, root.getPath().toOSString()));
+						collectSource(root, units, collectMonitor.split(1));
 					}
 				}
 			} catch (JavaModelException jme) {
 				ApiPlugin.log(jme);
 			}
 		}
+		validateTags(units.toArray(new ICompilationUnit[units.size()]), !tags, !annotations, localMonitor.split(1));
 	}
 
 	/**
-	 * Recursively finds all source in the given project and scans it for
-	 * invalid tags
+	 * Recursively finds all source in the given project to scan it for invalid
+	 * tags
 	 */
-	private void scanSource(IJavaElement element, boolean tags, boolean annotations, IProgressMonitor monitor) throws JavaModelException {
+	private void collectSource(IJavaElement element, Set<ICompilationUnit> units, IProgressMonitor monitor) throws JavaModelException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor);
 		switch (element.getElementType()) {
 			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
@@ -1163,13 +1176,12 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				IJavaElement[] children = parent.getChildren();
 				subMonitor.setWorkRemaining(children.length);
 				for (IJavaElement javaElement : children) {
-					scanSource(javaElement, tags, annotations, subMonitor.split(1));
+					collectSource(javaElement, units, subMonitor.split(1));
 				}
 				break;
 			}
 			case IJavaElement.COMPILATION_UNIT: {
-				ICompilationUnit unit = (ICompilationUnit) element;
-				processType(unit, tags, annotations);
+				units.add((ICompilationUnit) element);
 				break;
 			}
 			default:
@@ -1178,9 +1190,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * Processes the given type name for invalid Javadoc tags
+	 * Finds the compilation unit of the given type name to scan it for invalid
+	 * Javadoc tags
 	 */
-	private void processType(String typename, boolean tags, boolean annotations) {
+	private void collectType(String typename, Set<ICompilationUnit> units) {
 		try {
 			IType type = fJavaProject.findType(typename);
 			IType typeInProject = Util.getTypeInSameJavaProject(type, typename, fJavaProject);
@@ -1192,7 +1205,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				// unit
 				ICompilationUnit cunit = type.getCompilationUnit();
 				if (cunit != null) {
-					processType(cunit, tags, annotations);
+					units.add(cunit);
 				}
 			}
 		} catch (JavaModelException e) {
@@ -1201,19 +1214,82 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	}
 
 	/**
-	 * Processes the given {@link ICompilationUnit} for invalid tags
+	 * Validates the tags of the given compilation units. The units are parsed
+	 * in batches with {@link ASTParser#createASTs}, on the common fork join
+	 * pool when there are more than one batch. Each batch collects its own
+	 * problems, which are added in the order of the units once all batches are
+	 * done.
 	 */
-	private void processType(ICompilationUnit cunit, boolean tags, boolean annotations) {
-		CompilationUnit comp = createAST(cunit, 0);
-		if (comp == null) {
+	private void validateTags(ICompilationUnit[] units, boolean tags, boolean annotations, IProgressMonitor monitor) {
+		if (fJavaProject == null || units.length == 0) {
 			return;
 		}
-		TagValidator tv = new TagValidator(cunit, tags, annotations);
-		comp.accept(tv);
-		IApiProblem[] tagProblems = tv.getProblems();
-		for (IApiProblem tagProblem : tagProblems) {
-			addProblem(tagProblem);
+		long start = System.currentTimeMillis();
+		SubMonitor localMonitor = SubMonitor.convert(monitor, 1);
+		Map<String, String> options = fJavaProject.getOptions(true);
+		options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		// initialize the shared tag manager before the workers use it
+		ApiPlugin.getJavadocTagManager();
+		List<Callable<List<IApiProblem>>> batches = new ArrayList<>();
+		for (int i = 0; i < units.length; i += TAG_VALIDATION_BATCH_SIZE) {
+			ICompilationUnit[] batch = Arrays.copyOfRange(units, i, Math.min(units.length, i + TAG_VALIDATION_BATCH_SIZE));
+			batches.add(() -> validateTags(batch, options, tags, annotations, localMonitor));
+		}
+		List<List<IApiProblem>> results = new ArrayList<>(batches.size());
+		try {
+			if (batches.size() == 1) {
+				results.add(batches.get(0).call());
+			} else {
+				for (Future<List<IApiProblem>> future : ForkJoinPool.commonPool().invokeAll(batches)) {
+					results.add(future.get());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof OperationCanceledException canceled) {
+				throw canceled;
+			}
+			ApiPlugin.log(e.getCause());
+		} catch (OperationCanceledException e) {
+			throw e;
+		} catch (Exception e) {
+			ApiPlugin.log(e);
 		}
+		for (List<IApiProblem> problems : results) {
+			for (IApiProblem problem : problems) {
+				addProblem(problem);
+			}
+		}
+		localMonitor.split(1);
+		if (ApiPlugin.DEBUG_API_ANALYZER) {
+			System.out.println("Tag validation of " + units.length + " compilation units in " + batches.size() + " batches took " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	/**
+	 * Parses the given compilation units together and returns the tag problems
+	 * found in them
+	 */
+	private static List<IApiProblem> validateTags(ICompilationUnit[] units, Map<String, String> options, boolean tags, boolean annotations, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		List<IApiProblem> problems = new ArrayList<>();
+		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		parser.setResolveBindings(false);
+		parser.setIgnoreMethodBodies(true);
+		parser.setCompilerOptions(options);
+		parser.createASTs(units, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				TagValidator tv = new TagValidator(source, tags, annotations);
+				ast.accept(tv);
+				Collections.addAll(problems, tv.getProblems());
+			}
+		}, null);
+		return problems;
 	}
 
 	/**
@@ -1229,20 +1305,33 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Ignoring API usage scan"); //$NON-NLS-1$
 			}
+			if (fBuildState != null) {
+				// the references are no longer recorded
+				fBuildState.setReferenceIndex(null);
+			}
 			return;
 		}
 		IApiTypeContainer scope = null;
+		TypeReferenceIndex index = null;
 		if (context.hasTypes()) {
 			String[] typenames = getApiUseTypes(context);
 			if (typenames.length < 1) {
 				return;
 			}
 			scope = getSearchScope(component, typenames);
+			// only update an index that was computed for the entire component
+			if (fBuildState != null) {
+				index = fBuildState.getReferenceIndex();
+			}
 		} else {
 			scope = getSearchScope(component, null); // entire component
+			if (fBuildState != null) {
+				index = new TypeReferenceIndex();
+			}
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, MessageFormat.format(BuilderMessages.checking_api_usage, component.getSymbolicName()), 2);
 		ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+		analyzer.setReferenceIndex(index);
 		try {
 			long start = System.currentTimeMillis();
 			IApiProblem[] illegal = analyzer.analyze(component, scope, localMonitor.split(2));
@@ -1257,6 +1346,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				ApiPlugin.log(ce);
 			}
+		} finally {
+			if (fBuildState != null) {
+				fBuildState.setReferenceIndex(analyzer.getReferenceIndex());
+			}
 		}
 	}
 
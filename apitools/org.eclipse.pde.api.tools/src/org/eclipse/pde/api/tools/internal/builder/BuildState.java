@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,7 +59,7 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 34;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -78,6 +78,13 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Index of the types referenced by the types of the project, or
+	 * <code>null</code> if none has been recorded
+	 *
+	 * @since 1.3.600
+	 */
+	private TypeReferenceIndex referenceIndex;
 
 	/**
 	 * Constructor
@@ -155,6 +162,9 @@ public class BuildState {
 					}
 					state.setBuildPropertiesState(map);
 				}
+				if (in.readBoolean()) {
+					state.referenceIndex = TypeReferenceIndex.read(in);
+				}
 			}
 			return state;
 		}
@@ -210,6 +220,11 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		TypeReferenceIndex index = state.getReferenceIndex();
+		out.writeBoolean(index != null);
+		if (index != null) {
+			index.write(out);
+		}
 	}
 
 	/**
@@ -522,6 +537,42 @@ public class BuildState {
 		buildpathCRC = crc32;
 	}
 
+	/**
+	 * Returns the index of the types referenced by the types of the project,
+	 * recorded during the last API use scan of the whole project and kept up
+	 * to date by incremental builds since.
+	 *
+	 * @return the index or <code>null</code> if there is none
+	 * @since 1.3.600
+	 */
+	public TypeReferenceIndex getReferenceIndex() {
+		return referenceIndex;
+	}
+
+	/**
+	 * Sets the index of the types referenced by the types of the project,
+	 * <code>null</code> discards it.
+	 *
+	 * @param index the index or <code>null</code>
+	 * @since 1.3.600
+	 */
+	public void setReferenceIndex(TypeReferenceIndex index) {
+		referenceIndex = index;
+	}
+
+	/**
+	 * Returns if the reference index no longer describes the project because
+	 * its build path changed since the last build. Resolved references may then
+	 * point to different types, a full build is needed to recompute it.
+	 *
+	 * @param crc32 CRC32 code of the current build path of the project
+	 * @return <code>true</code> if there is an index and it is stale
+	 * @since 1.3.600
+	 */
+	public boolean isReferenceIndexStale(long crc32) {
+		return referenceIndex != null && buildpathCRC != crc32;
+	}
+
 	/**
 	 * Return the last built state for the given project, or null if none
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
@@ -234,7 +235,7 @@ public class IncrementalApiBuilder {
 			for (IResourceDelta delta : deltas) {
 				delta.accept(visitor);
 			}
-			buildContext(project, state, visitor.changes, depprojects);
+			buildContext(project, state, buildstate.getReferenceIndex(), visitor.changes, depprojects);
 			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
 			// do nothing, but don't forward it
@@ -373,9 +374,12 @@ public class IncrementalApiBuilder {
 	 *
 	 * @param project the current project being built
 	 * @param state the current JDT build state
+	 * @param index the reference index of the API tools build state or
+	 *            <code>null</code> to use the references of the JDT build
+	 *            state
 	 * @param list of changes
 	 */
-	void buildContext(final IProject project, State state, List<Change> changes, HashSet<IProject> depprojects) {
+	void buildContext(final IProject project, State state, TypeReferenceIndex index, List<Change> changes, HashSet<IProject> depprojects) {
 		StringSet structural = null;
 		StringSet description = null;
 		for (Change change : changes) {
@@ -431,24 +435,64 @@ public class IncrementalApiBuilder {
 		if (changes.size() == 1 && structural != null && description != null) {
 			String[] types = structural.values;
 			if (types.length > 0) {
-				addDependents(project, state, types, STRUCTURAL | DESCRIPTION);
+				addDependents(project, state, index, types, STRUCTURAL | DESCRIPTION);
 			}
 		} else {
 			if (structural != null) {
 				String[] types = structural.values;
 				if (types.length > 0) {
-					addDependents(project, state, types, STRUCTURAL);
+					addDependents(project, state, index, types, STRUCTURAL);
 				}
 			}
 			if (description != null) {
 				String[] types = description.values;
 				if (types.length > 0) {
-					addDependents(project, state, types, DESCRIPTION);
+					addDependents(project, state, index, types, DESCRIPTION);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Adds the dependent files of the given types to either the structural or
+	 * description dependents, using the given reference index if there is one
+	 * and the references of the current JDT build state otherwise.
+	 *
+	 * @param project the current project being built
+	 * @param state the current JDT build state
+	 * @param index the reference index or <code>null</code>
+	 * @param types slash and $ qualified names of base types that changed
+	 * @param kind mask of STRUCTURAL or DESCRIPTION
+	 */
+	private void addDependents(final IProject project, State state, TypeReferenceIndex index, String[] types, int kind) {
+		if (index == null) {
+			addDependents(project, state, types, kind);
+			return;
+		}
+		List<String> changed = new ArrayList<>(types.length);
+		for (String type : types) {
+			if (type != null) {
+				changed.add(type);
+			}
+		}
+		Set<String> dependents = index.getDependents(changed);
+		if (ApiPlugin.DEBUG_BUILDER) {
+			System.out.println("ApiAnalysisBuilder:   reference index found " + dependents.size() + " dependents of " + Arrays.toString(types)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		for (String dependent : dependents) {
+			// dependents from other projects have no locator
+			String typeLocator = state.typeLocators.get(dependent.replace('.', '/'));
+			if (typeLocator == null) {
+				continue;
+			}
+			IFile file = project.getFile(typeLocator);
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisBuilder:   adding affected source file " + file.getName()); //$NON-NLS-1$
+			}
+			addDependentTypeToContext(file, kind);
+		}
+	}
+
 	/**
 	 * Adds the dependent files from the current build context based on the
 	 * current JDT build state to either the structural or description
@@ -527,8 +571,12 @@ public class IncrementalApiBuilder {
 		// clean up the state -
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=271110
 		String[] types = this.context.getRemovedTypes();
+		TypeReferenceIndex index = state.getReferenceIndex();
 		for (String type : types) {
 			state.cleanup(type);
+			if (index != null) {
+				index.removeType(type);
+			}
 		}
 		subMonitor.split(1);
 		IResource resource = project.findMember(ApiAnalysisBuilder.MANIFEST_PATH);
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Batch of marker updates. While a batch is applied, markers deleted through
+ * this class are only marked for deletion: a marker created afterwards on the
+ * same resource with the same type and attributes as one of them reuses it
+ * instead, and the markers that were not reused are deleted when the batch
+ * ends. Problems that did not change between two builds therefore keep their
+ * markers. Outside of a batch, markers are deleted and created directly.
+ * <p>
+ * Markers must be looked up with {@link #findMarkers} to not find markers
+ * already deleted by the batch.
+ * </p>
+ */
+final class MarkerBatch {
+
+	private static final ThreadLocal<MarkerBatch> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * The resource and type of deleted markers
+	 */
+	private record MarkerKey(IResource resource, String type) {
+	}
+
+	private final Set<IMarker> fDeleted = new LinkedHashSet<>();
+
+	/**
+	 * The deleted markers that can be reused, by resource and type and then by
+	 * attributes
+	 */
+	private final Map<MarkerKey, Map<Map<String, Object>, Deque<IMarker>>> fReusable = new HashMap<>();
+	int fCreated = 0;
+	int fKept = 0;
+	int fRemoved = 0;
+
+	/**
+	 * Runs the given tasks in order as this batch, then deletes the markers
+	 * that have been deleted by the tasks and not created again
+	 *
+	 * @param tasks the tasks updating markers
+	 */
+	void apply(List<Runnable> tasks) {
+		CURRENT.set(this);
+		try {
+			for (Runnable task : tasks) {
+				task.run();
+			}
+		} finally {
+			CURRENT.remove();
+			for (IMarker marker : fDeleted) {
+				try {
+					if (marker.exists()) {
+						marker.delete();
+						fRemoved++;
+					}
+				} catch (CoreException e) {
+					ApiPlugin.log(e);
+				}
+			}
+			fDeleted.clear();
+			fReusable.clear();
+		}
+	}
+
+	private void markDeleted(IMarker marker) throws CoreException {
+		if (fDeleted.add(marker)) {
+			fReusable.computeIfAbsent(new MarkerKey(marker.getResource(), marker.getType()), key -> new HashMap<>())
+					.computeIfAbsent(marker.getAttributes(), attributes -> new ArrayDeque<>()).add(marker);
+		}
+	}
+
+	/**
+	 * Deletes the markers of the given type from the given resource
+	 *
+	 * @see IResource#deleteMarkers(String, boolean, int)
+	 */
+	static void deleteMarkers(IResource resource, String type, boolean includeSubtypes, int depth) throws CoreException {
+		MarkerBatch batch = CURRENT.get();
+		if (batch == null) {
+			resource.deleteMarkers(type, includeSubtypes, depth);
+		} else {
+			for (IMarker marker : resource.findMarkers(type, includeSubtypes, depth)) {
+				batch.markDeleted(marker);
+			}
+		}
+	}
+
+	/**
+	 * Deletes the given marker
+	 *
+	 * @see IMarker#delete()
+	 */
+	static void delete(IMarker marker) throws CoreException {
+		MarkerBatch batch = CURRENT.get();
+		if (batch == null) {
+			marker.delete();
+		} else {
+			batch.markDeleted(marker);
+		}
+	}
+
+	/**
+	 * Returns the markers of the given type on the given resource that have not
+	 * been deleted
+	 *
+	 * @see IResource#findMarkers(String, boolean, int)
+	 */
+	static IMarker[] findMarkers(IResource resource, String type, boolean includeSubtypes, int depth) throws CoreException {
+		IMarker[] markers = resource.findMarkers(type, includeSubtypes, depth);
+		MarkerBatch batch = CURRENT.get();
+		if (batch == null || batch.fDeleted.isEmpty()) {
+			return markers;
+		}
+		List<IMarker> found = new ArrayList<>(markers.length);
+		for (IMarker marker : markers) {
+			if (!batch.fDeleted.contains(marker)) {
+				found.add(marker);
+			}
+		}
+		return found.toArray(new IMarker[found.size()]);
+	}
+
+	/**
+	 * Creates a marker of the given type with the given attributes on the given
+	 * resource, or keeps an identical marker deleted earlier in the current
+	 * batch
+	 *
+	 * @param resource the resource to create the marker on
+	 * @param type the marker type
+	 * @param attributes all attributes of the marker
+	 * @return the created or kept marker
+	 * @see IResource#createMarker(String, Map)
+	 */
+	static IMarker createMarker(IResource resource, String type, Map<String, Object> attributes) throws CoreException {
+		MarkerBatch batch = CURRENT.get();
+		if (batch == null) {
+			return resource.createMarker(type, attributes);
+		}
+		Map<Map<String, Object>, Deque<IMarker>> reusable = batch.fReusable.get(new MarkerKey(resource, type));
+		Deque<IMarker> markers = reusable == null ? null : reusable.get(attributes);
+		IMarker marker = markers == null ? null : markers.poll();
+		if (marker != null) {
+			batch.fDeleted.remove(marker);
+			batch.fKept++;
+			return marker;
+		}
+		batch.fCreated++;
+		return resource.createMarker(type, attributes);
+	}
+}
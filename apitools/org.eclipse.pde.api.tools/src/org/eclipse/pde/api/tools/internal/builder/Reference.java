@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -360,8 +360,20 @@ public class Reference implements IReference {
 	}
 
 	public void resolve() throws CoreException {
+		resolveReferencedType();
+	}
+
+	/**
+	 * Resolves this reference if it is not resolved yet.
+	 *
+	 * @return the component the referenced type was found in, or
+	 *         <code>null</code> if the reference was already resolved or the
+	 *         type was not found
+	 * @throws CoreException if the type structure cannot be read
+	 */
+	IApiComponent resolveReferencedType() throws CoreException {
 		if (!this.fStatus) {
-			return;
+			return null;
 		}
 		if (fResolved == null) {
 			IApiComponent sourceComponent = getMember().getApiComponent();
@@ -371,7 +383,7 @@ public class Reference implements IReference {
 					IApiType type = result.getStructure();
 					if (type == null) {
 						// cannot resolve a type that is in a bad classfile
-						return;
+						return null;
 					}
 					switch (getReferenceType()) {
 						case IReference.T_TYPE_REFERENCE -> {
@@ -385,9 +397,11 @@ public class Reference implements IReference {
 						}
 						default -> { /**/ }
 					}
+					return result.getApiComponent();
 				}
 			}
 		}
+		return null;
 	}
 
 	public boolean resolve(int eeValue) throws CoreException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,12 +94,19 @@ public class ReferenceAnalyzer {
 					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
 						return;
 					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
+					List<IReference> references = type.extractReferences(fReferenceIndex == null ? fAllReferenceKinds : IReference.MASK_REF_ALL, null);
+					if (fReferenceIndex != null) {
+						fReferenceIndex.setReferences(type.getName(), references);
+					}
 					// keep potential matches
 					for (IReference ref : references) {
 						if (fMonitor.isCanceled()) {
 							break;
 						}
+						if ((ref.getReferenceKind() & fAllReferenceKinds) == 0) {
+							// only extracted for the reference index
+							continue;
+						}
 						// compute index of interested problem detectors
 						int index = getLog2(ref.getReferenceKind());
 						IApiProblemDetector[] detectors = fIndexedDetectors[index];
@@ -148,6 +155,36 @@ public class ReferenceAnalyzer {
 	 */
 	private IApiProblemDetector[][] fIndexedDetectors;
 
+	/**
+	 * Index to record the references of every visited type in, or
+	 * <code>null</code>
+	 */
+	private TypeReferenceIndex fReferenceIndex;
+
+	/**
+	 * Sets the index in which the references of all analyzed types are
+	 * recorded, replacing the references previously recorded for them. This
+	 * makes the analysis extract all kinds of references, not only the ones
+	 * problem detectors are interested in.
+	 *
+	 * @param index the index to update or <code>null</code>
+	 */
+	public void setReferenceIndex(TypeReferenceIndex index) {
+		fReferenceIndex = index;
+	}
+
+	/**
+	 * Returns the reference index updated by the last analysis, or
+	 * <code>null</code> if the analysis did not visit all types in its scope,
+	 * for example because it was canceled, in which case the index may be
+	 * incomplete.
+	 *
+	 * @return the updated index or <code>null</code>
+	 */
+	public TypeReferenceIndex getReferenceIndex() {
+		return fReferenceIndex;
+	}
+
 	/**
 	 * Indexes the problem detectors by the reference kinds they are interested
 	 * in. For example, a detector interested in a
@@ -235,12 +272,16 @@ public class ReferenceAnalyzer {
 			IApiProblemDetector[] detectors = buildProblemDetectors(component, ProblemDetectorBuilder.K_ALL,
 					localMonitor.split(1));
 			if (detectors.length == 0) {
+				fReferenceIndex = null;
 				return EMPTY_RESULT;
 			}
 			// analyze
 			// 1. extract references
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			extractReferences(scope, localMonitor.split(1));
+			if (monitor.isCanceled()) {
+				fReferenceIndex = null;
+			}
 			// 2. resolve problematic references
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			if (fReferences.size() != 0) {
@@ -259,7 +300,11 @@ public class ReferenceAnalyzer {
 			IApiProblem[] array = allProblems.toArray(new IApiProblem[allProblems.size()]);
 			return array;
 		} catch (OperationCanceledException e) {
+			fReferenceIndex = null;
 			return EMPTY_RESULT;
+		} catch (CoreException e) {
+			fReferenceIndex = null;
+			throw e;
 		} finally {
 			// clean up
 			fIndexedDetectors = null;
@@ -1274,7 +1274,7 @@ public class ReferenceExtractor extends ClassVisitor {
 	private Set<Reference> processInnerClass(IApiType type, int refkinds) throws CoreException {
 		HashSet<Reference> refs = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(type, refs, refkinds, this.fieldtracker);
-		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) type.getTypeRoot()).getContents());
+		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) type.getTypeRoot()).getSharedContents());
 		reader.accept(extractor, ClassReader.SKIP_FRAMES);
 		return refs;
 	}
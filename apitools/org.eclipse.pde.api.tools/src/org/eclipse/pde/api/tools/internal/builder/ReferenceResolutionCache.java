@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+
+/**
+ * Cache of resolved references kept by an API baseline across builds.
+ * <p>
+ * Only references to types provided by components that are not workspace
+ * projects are cached, as their content does not change while the baseline
+ * exists. The entries of a component are invalidated when the baseline
+ * replaces it, and the whole cache is dropped with the baseline.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class ReferenceResolutionCache {
+
+	/**
+	 * Maximum number of resolutions kept. Resolved members hold on to their
+	 * type structure, so the cache is cleared when it grows above this size.
+	 */
+	static final int MAX_SIZE = 50000;
+
+	/**
+	 * Key of the references resolving to the same member: references from the
+	 * same component to the same type, field or method
+	 *
+	 * @param component the symbolic name of the referencing component
+	 * @param typeName the name of the referenced type
+	 * @param referenceType the type of the reference, one of
+	 *            {@link IReference#T_TYPE_REFERENCE},
+	 *            {@link IReference#T_FIELD_REFERENCE} or
+	 *            {@link IReference#T_METHOD_REFERENCE}
+	 * @param memberName the name of the referenced member or <code>null</code>
+	 * @param signature the signature of the referenced method or
+	 *            <code>null</code>
+	 */
+	record ReferenceKey(String component, String typeName, int referenceType, String memberName, String signature) {
+
+		static ReferenceKey of(IReference reference) {
+			String component = reference.getMember().getApiComponent().getSymbolicName();
+			return switch (reference.getReferenceType()) {
+				case IReference.T_FIELD_REFERENCE -> new ReferenceKey(component, reference.getReferencedTypeName(), IReference.T_FIELD_REFERENCE, reference.getReferencedMemberName(), null);
+				case IReference.T_METHOD_REFERENCE -> new ReferenceKey(component, reference.getReferencedTypeName(), IReference.T_METHOD_REFERENCE, reference.getReferencedMemberName(), reference.getReferencedSignature());
+				default -> new ReferenceKey(component, reference.getReferencedTypeName(), IReference.T_TYPE_REFERENCE, null, null);
+			};
+		}
+	}
+
+	/**
+	 * A cached resolution with the names of the components it depends on
+	 */
+	private record Resolution(IApiMember member, String referencedComponent, String resolvedComponent) {
+
+		boolean dependsOn(ReferenceKey key, String component) {
+			return component.equals(key.component()) || component.equals(referencedComponent) || component.equals(resolvedComponent);
+		}
+	}
+
+	private final Map<ReferenceKey, Resolution> fResolutions = new ConcurrentHashMap<>();
+
+	private final LongAdder fHits = new LongAdder();
+
+	private final LongAdder fMisses = new LongAdder();
+
+	/**
+	 * Returns the cached resolution of the references with the given key
+	 *
+	 * @param key the key of the references
+	 * @return the resolved member or <code>null</code> if none is cached
+	 */
+	IApiMember get(ReferenceKey key) {
+		Resolution resolution = fResolutions.get(key);
+		if (resolution == null) {
+			fMisses.increment();
+			return null;
+		}
+		fHits.increment();
+		return resolution.member();
+	}
+
+	/**
+	 * Caches the resolution of the references with the given key if neither the
+	 * referenced type nor the resolved member belong to a workspace project
+	 *
+	 * @param key the key of the references
+	 * @param member the resolved member or <code>null</code>
+	 * @param referencedComponent the component providing the referenced type or
+	 *            <code>null</code>
+	 */
+	void put(ReferenceKey key, IApiMember member, IApiComponent referencedComponent) {
+		if (member == null || referencedComponent == null || referencedComponent instanceof ProjectComponent) {
+			return;
+		}
+		IApiComponent resolvedComponent = member.getApiComponent();
+		if (resolvedComponent == null || resolvedComponent instanceof ProjectComponent) {
+			return;
+		}
+		if (fResolutions.size() >= MAX_SIZE) {
+			fResolutions.clear();
+		}
+		fResolutions.put(key, new Resolution(member, referencedComponent.getSymbolicName(), resolvedComponent.getSymbolicName()));
+	}
+
+	/**
+	 * Removes the resolutions of references from or to the component
+	 * with the given symbolic name
+	 *
+	 * @param id the symbolic name of the changed component
+	 */
+	public void componentChanged(String id) {
+		if (id != null && !fResolutions.isEmpty()) {
+			fResolutions.entrySet().removeIf(entry -> entry.getValue().dependsOn(entry.getKey(), id));
+		}
+	}
+
+	/**
+	 * Removes all cached resolutions
+	 */
+	public void clear() {
+		fResolutions.clear();
+	}
+
+	/**
+	 * @return the number of cached resolutions
+	 */
+	public int size() {
+		return fResolutions.size();
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of lookups not answered from the cache
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+}
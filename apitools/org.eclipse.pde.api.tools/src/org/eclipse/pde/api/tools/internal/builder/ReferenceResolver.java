@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,10 +17,17 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolutionCache.ReferenceKey;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
 
 /**
@@ -31,6 +38,62 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
  */
 public final class ReferenceResolver {
 
+	/**
+	 * Minimum number of reference sets for which they are resolved
+	 * concurrently
+	 */
+	static final int PARALLEL_THRESHOLD = 256;
+
+	/**
+	 * A set of references resolving to the same member
+	 *
+	 * @param key the key of the references or <code>null</code> if their
+	 *            resolution is not to be cached
+	 * @param references the references
+	 */
+	private record ReferenceSet(ReferenceKey key, List<IReference> references) {
+	}
+
+	/**
+	 * Work-stealing task resolving a range of reference sets. Ranges larger
+	 * than {@link #SHARD_SIZE} are split in half. The first failure stops the
+	 * remaining work and is rethrown by {@link ReferenceResolver} once all
+	 * tasks have completed.
+	 */
+	static class ResolveShard extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		static final int SHARD_SIZE = 64;
+		private final transient List<ReferenceSet> sets;
+		private final transient ReferenceResolutionCache cache;
+		private final int from;
+		private final int to;
+		private final transient AtomicReference<CoreException> failure;
+
+		ResolveShard(List<ReferenceSet> sets, ReferenceResolutionCache cache, int from, int to, AtomicReference<CoreException> failure) {
+			this.sets = sets;
+			this.cache = cache;
+			this.from = from;
+			this.to = to;
+			this.failure = failure;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > SHARD_SIZE) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new ResolveShard(sets, cache, from, mid, failure), new ResolveShard(sets, cache, mid, to, failure));
+				return;
+			}
+			for (int i = from; i < to && failure.get() == null; i++) {
+				try {
+					resolveReferenceSet(sets.get(i), cache);
+				} catch (CoreException e) {
+					failure.compareAndSet(null, e);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Constructor Private constructor, no instantiate
 	 */
@@ -46,42 +109,39 @@ public final class ReferenceResolver {
 	public static void resolveReferences(List<IReference> references) throws CoreException {
 		// sort references by target type for 'shared' resolution
 		int refcount = references.size();
-		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
+		Map<ReferenceKey, List<IReference>> keytoref = new LinkedHashMap<>(refcount);
 
-		List<IReference> refs = null;
-		String key = null;
-		List<Reference> methodDecls = new ArrayList<>(refcount);
+		List<ReferenceSet> methodDecls = new ArrayList<>(refcount);
 		long start = System.currentTimeMillis();
 		for (IReference ref : references) {
 			if (ref.getReferenceKind() == IReference.REF_OVERRIDE) {
-				methodDecls.add((Reference) ref);
+				methodDecls.add(new ReferenceSet(null, List.of(ref)));
 			} else {
-				key = createSignatureKey(ref);
-				refs = sigtoref.get(key);
-				if (refs == null) {
-					refs = new ArrayList<>(20);
-					sigtoref.put(key, refs);
-				}
-				refs.add(ref);
+				keytoref.computeIfAbsent(ReferenceKey.of(ref), k -> new ArrayList<>(4)).add(ref);
 			}
 		}
+		List<ReferenceSet> sets = new ArrayList<>(keytoref.size());
+		for (Map.Entry<ReferenceKey, List<IReference>> entry : keytoref.entrySet()) {
+			sets.add(new ReferenceSet(entry.getKey(), entry.getValue()));
+		}
 
 		long end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: split into " + methodDecls.size() + " method overrides and " + sigtoref.size() + " unique references (" + (end - start) + "ms)"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$ //$NON-NLS-4$
+			System.out.println("Reference resolver: split into " + methodDecls.size() + " method overrides and " + sets.size() + " unique references (" + (end - start) + "ms)"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$ //$NON-NLS-4$
 		}
+		ReferenceResolutionCache cache = refcount > 0 ? getResolutionCache(references.get(0)) : null;
+		long hits = cache == null ? 0 : cache.getHitCount();
 		// resolve references
 		start = System.currentTimeMillis();
-		resolveReferenceSets(sigtoref);
+		resolveReferenceSets(sets, cache);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms" //$NON-NLS-1$//$NON-NLS-2$
+					+ (cache == null ? "" : " (" + (cache.getHitCount() - hits) + " from cache)")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
-		for (Reference reference : methodDecls) {
-			reference.resolve();
-		}
+		resolveReferenceSets(methodDecls, null);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: resolved method overrides in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
@@ -89,51 +149,69 @@ public final class ReferenceResolver {
 	}
 
 	/**
-	 * Resolves the collect sets of references.
+	 * Returns the resolution cache of the baseline the given reference is
+	 * resolved in, or <code>null</code> if it has none
+	 */
+	private static ReferenceResolutionCache getResolutionCache(IReference reference) throws CoreException {
+		IApiComponent component = reference.getMember().getApiComponent();
+		if (component == null) {
+			return null;
+		}
+		IApiBaseline baseline = component.getBaseline();
+		if (baseline instanceof ApiBaseline apiBaseline) {
+			return apiBaseline.getReferenceResolutionCache();
+		}
+		return null;
+	}
+
+	/**
+	 * Resolves the collected sets of references, concurrently when there are
+	 * enough of them.
 	 *
-	 * @param map the mapping of keys to sets of {@link IReference}s
+	 * @param sets the sets of {@link IReference}s
+	 * @param cache the cache of resolutions or <code>null</code>
 	 * @throws CoreException if something bad happens
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
-			if (resolved != null) {
-				for (IReference ref2 : refs) {
-					((Reference) ref2).setResolution(resolved);
-				}
+	private static void resolveReferenceSets(List<ReferenceSet> sets, ReferenceResolutionCache cache) throws CoreException {
+		if (sets.size() < PARALLEL_THRESHOLD) {
+			for (ReferenceSet set : sets) {
+				resolveReferenceSet(set, cache);
 			}
+			return;
+		}
+		AtomicReference<CoreException> failure = new AtomicReference<>();
+		ForkJoinPool.commonPool().invoke(new ResolveShard(sets, cache, 0, sets.size(), failure));
+		if (failure.get() != null) {
+			throw failure.get();
 		}
 	}
 
 	/**
-	 * Creates a unique string key for a given reference. The key is of the form
-	 * "component X references type/member"
-	 *
-	 * <pre>
-	 * [component_id]#[type_name](#[member_name]#[member_signature])
-	 * </pre>
+	 * Resolves the first reference of the given set, or takes its resolution
+	 * from the cache, and sets the resolution to all references of the set.
 	 *
-	 * @param reference reference
-	 * @return a string key for the given reference.
+	 * @param set the set of references resolving to the same member
+	 * @param cache the cache of resolutions or <code>null</code>
+	 * @throws CoreException if something bad happens
 	 */
-	private static String createSignatureKey(IReference reference) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
-		buffer.append("#"); //$NON-NLS-1$
-		buffer.append(reference.getReferencedTypeName());
-		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-
-		} else if (reference.getReferenceType() == IReference.T_METHOD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedSignature());
+	private static void resolveReferenceSet(ReferenceSet set, ReferenceResolutionCache cache) throws CoreException {
+		List<IReference> refs = set.references();
+		Reference ref = (Reference) refs.get(0);
+		IApiMember resolved = null;
+		if (cache != null && set.key() != null) {
+			resolved = cache.get(set.key());
+		}
+		if (resolved == null) {
+			IApiComponent component = ref.resolveReferencedType();
+			resolved = ref.getResolvedReference();
+			if (cache != null && set.key() != null) {
+				cache.put(set.key(), resolved, component);
+			}
+		}
+		if (resolved != null) {
+			for (IReference ref2 : refs) {
+				((Reference) ref2).setResolution(resolved);
+			}
 		}
-		return buffer.toString();
 	}
 }
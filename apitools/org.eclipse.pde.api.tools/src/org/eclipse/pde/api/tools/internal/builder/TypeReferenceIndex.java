@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+
+/**
+ * Index of the types referenced by the types of a project, recorded while
+ * references are extracted for the API use scan and saved with the
+ * {@link BuildState}. It is used by incremental builds to find the types
+ * affected by a change without going through every reference of the JDT build
+ * state.
+ * <p>
+ * All names are fully qualified, dot separated, top level type names: the
+ * references of member types are recorded for their top level type, which is
+ * also the unit that gets re-analyzed.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public class TypeReferenceIndex {
+
+	/**
+	 * Kinds of references through which a type inherits the API of the
+	 * referenced type. Changes are propagated further along those references.
+	 */
+	static final int HIERARCHY_REFERENCES = IReference.REF_EXTENDS | IReference.REF_IMPLEMENTS;
+
+	/**
+	 * Map of referencing type to the map of referenced types and the bit mask
+	 * of the kinds of the references
+	 */
+	private final Map<String, Map<String, Integer>> fReferences = new HashMap<>();
+
+	/**
+	 * Inverse of {@link #fReferences}, computed on demand
+	 */
+	private Map<String, Map<String, Integer>> fReferencingTypes = null;
+
+	/**
+	 * Returns the top level type name for the given type name
+	 *
+	 * @param typename dot or slash separated and $ qualified type name
+	 * @return the dot separated top level type name
+	 */
+	static String getRootTypeName(String typename) {
+		String name = typename.replace('/', '.');
+		int idx = name.indexOf('$');
+		if (idx > 0) {
+			return name.substring(0, idx);
+		}
+		return name;
+	}
+
+	/**
+	 * Records the given references extracted from the given type, replacing
+	 * the references previously recorded for it.
+	 *
+	 * @param typename the name of the referencing type
+	 * @param references the references extracted from the type and its member
+	 *            types
+	 */
+	public void setReferences(String typename, List<IReference> references) {
+		String type = getRootTypeName(typename);
+		Map<String, Integer> referenced = new HashMap<>();
+		for (IReference reference : references) {
+			String name = reference.getReferencedTypeName();
+			if (name == null) {
+				continue;
+			}
+			name = getRootTypeName(name);
+			if (!name.equals(type)) {
+				referenced.merge(name, Integer.valueOf(reference.getReferenceKind()), (a, b) -> Integer.valueOf(a.intValue() | b.intValue()));
+			}
+		}
+		fReferences.put(type, referenced);
+		fReferencingTypes = null;
+	}
+
+	/**
+	 * Removes the references recorded for the given type
+	 *
+	 * @param typename the name of the type
+	 */
+	public void removeType(String typename) {
+		if (fReferences.remove(getRootTypeName(typename)) != null) {
+			fReferencingTypes = null;
+		}
+	}
+
+	/**
+	 * Returns the types directly referencing the given type
+	 *
+	 * @param typename the name of the referenced type
+	 * @return the names of the referencing types, never <code>null</code>
+	 */
+	public Set<String> getReferencingTypes(String typename) {
+		Map<String, Integer> referencing = getReferencingTypesMap().get(getRootTypeName(typename));
+		if (referencing == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(referencing.keySet());
+	}
+
+	/**
+	 * Returns the types affected by a change of the given types: the types
+	 * referencing them, and transitively the types referencing the types that
+	 * extend or implement a changed type, since they inherit its API.
+	 *
+	 * @param typenames the names of the changed types
+	 * @return the names of the affected types, not including the changed types
+	 *         unless they depend on each other
+	 */
+	public Set<String> getDependents(Collection<String> typenames) {
+		Map<String, Map<String, Integer>> index = getReferencingTypesMap();
+		Set<String> dependents = new LinkedHashSet<>();
+		Set<String> visited = new LinkedHashSet<>();
+		Deque<String> queue = new ArrayDeque<>();
+		for (String typename : typenames) {
+			String type = getRootTypeName(typename);
+			if (visited.add(type)) {
+				queue.add(type);
+			}
+		}
+		while (!queue.isEmpty()) {
+			Map<String, Integer> referencing = index.get(queue.poll());
+			if (referencing == null) {
+				continue;
+			}
+			for (Entry<String, Integer> entry : referencing.entrySet()) {
+				String type = entry.getKey();
+				dependents.add(type);
+				if ((entry.getValue().intValue() & HIERARCHY_REFERENCES) != 0 && visited.add(type)) {
+					queue.add(type);
+				}
+			}
+		}
+		return dependents;
+	}
+
+	private Map<String, Map<String, Integer>> getReferencingTypesMap() {
+		if (fReferencingTypes == null) {
+			Map<String, Map<String, Integer>> inverse = new HashMap<>();
+			for (Entry<String, Map<String, Integer>> entry : fReferences.entrySet()) {
+				for (Entry<String, Integer> referenced : entry.getValue().entrySet()) {
+					inverse.computeIfAbsent(referenced.getKey(), k -> new HashMap<>()).put(entry.getKey(), referenced.getValue());
+				}
+			}
+			fReferencingTypes = inverse;
+		}
+		return fReferencingTypes;
+	}
+
+	/**
+	 * @return the number of types the index has references for
+	 */
+	public int size() {
+		return fReferences.size();
+	}
+
+	/**
+	 * Writes the index to the given stream. Type names are written once in a
+	 * table, references refer to them by their position in the table.
+	 *
+	 * @param out the stream to write to
+	 */
+	public void write(DataOutputStream out) throws IOException {
+		Map<String, Integer> positions = new HashMap<>();
+		List<String> names = new ArrayList<>();
+		for (Entry<String, Map<String, Integer>> entry : fReferences.entrySet()) {
+			addName(entry.getKey(), positions, names);
+			for (String referenced : entry.getValue().keySet()) {
+				addName(referenced, positions, names);
+			}
+		}
+		out.writeInt(names.size());
+		for (String name : names) {
+			out.writeUTF(name);
+		}
+		out.writeInt(fReferences.size());
+		for (Entry<String, Map<String, Integer>> entry : fReferences.entrySet()) {
+			out.writeInt(positions.get(entry.getKey()).intValue());
+			Map<String, Integer> referenced = entry.getValue();
+			out.writeInt(referenced.size());
+			for (Entry<String, Integer> reference : referenced.entrySet()) {
+				out.writeInt(positions.get(reference.getKey()).intValue());
+				out.writeInt(reference.getValue().intValue());
+			}
+		}
+	}
+
+	private static void addName(String name, Map<String, Integer> positions, List<String> names) {
+		if (!positions.containsKey(name)) {
+			positions.put(name, Integer.valueOf(names.size()));
+			names.add(name);
+		}
+	}
+
+	/**
+	 * Reads an index written with {@link #write(DataOutputStream)}
+	 *
+	 * @param in the stream to read from
+	 * @return the index
+	 */
+	public static TypeReferenceIndex read(DataInputStream in) throws IOException {
+		TypeReferenceIndex index = new TypeReferenceIndex();
+		String[] names = new String[in.readInt()];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = in.readUTF();
+		}
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			String type = names[in.readInt()];
+			int size = in.readInt();
+			Map<String, Integer> referenced = new HashMap<>(size);
+			for (int j = 0; j < size; j++) {
+				String name = names[in.readInt()];
+				referenced.put(name, Integer.valueOf(in.readInt()));
+			}
+			index.fReferences.put(type, referenced);
+		}
+		return index;
+	}
+}
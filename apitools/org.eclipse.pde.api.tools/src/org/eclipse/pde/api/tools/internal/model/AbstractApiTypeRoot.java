@@ -44,6 +44,18 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 
 	public abstract byte[] getContents() throws CoreException;
 
+	/**
+	 * Returns the contents of this type root, possibly shared with other
+	 * readers of the same class file. Only for reading within API tools, the
+	 * returned bytes must not be modified.
+	 *
+	 * @return the contents of this type root
+	 * @throws CoreException if the contents cannot be read
+	 */
+	public byte[] getSharedContents() throws CoreException {
+		return getContents();
+	}
+
 	@Override
 	public IApiType getStructure() throws CoreException {
 		// if exists return
@@ -59,7 +71,7 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 			type = (IApiType) cache.getElementInfo(baseline.getName(), comp.getSymbolicName(), this.getTypeName(), IApiElement.TYPE);
 		}
 		if (type == null) {
-			type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+			type = TypeStructureBuilder.buildTypeStructure(getSharedContents(), getApiComponent(), this);
 			if (type == null) {
 				return null;
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -55,18 +56,22 @@ import org.eclipse.jdt.launching.environments.ExecutionEnvironmentDescription;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironmentsManager;
 import org.eclipse.osgi.launch.Equinox;
+import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ResolverError;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.pde.api.tools.internal.AnyValue;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager.ApiBaselineManagerRule;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager.PersistedComponent;
 import org.eclipse.pde.api.tools.internal.CoreMessages;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolutionCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -136,6 +141,18 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private final Map<String, Map<IApiComponent, IApiComponent[]>> fComponentsProvidingPackageCache;
 
+	/**
+	 * Index of the packages visible to the bundle components of this baseline.
+	 * <p>
+	 * Map of <code>source component -> Map(package name -> exporter ids)</code>
+	 * </p>
+	 * The packages visible to a component, including the packages re-exported
+	 * by its required bundles, are indexed from the resolved state the first
+	 * time a package is resolved for it. Entries are dropped for the bundles
+	 * whose resolution changes when components are added.
+	 */
+	private final Map<IApiComponent, Map<String, String[]>> fVisiblePackageIndex = new ConcurrentHashMap<>();
+
 	/**
 	 * Maps component id's to components.
 	 * <p>
@@ -157,6 +174,12 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 * This map is not supposed to be modified except on creation / disposal.
 	 */
 	private final Map<String, IApiComponent> fComponentsByProjectNames;
+	/**
+	 * Resolved references of the components of this baseline, kept across
+	 * builds
+	 */
+	private final ReferenceResolutionCache fResolutionCache = new ReferenceResolutionCache();
+
 	/**
 	 * Cache of system package names
 	 */
@@ -172,6 +195,20 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 	private volatile boolean restored;
 
+	/**
+	 * The components described in the *.profile file of this baseline while
+	 * it is not restored, by id. Read on first lookup of a component so that
+	 * looking up a component that is not part of the baseline does not
+	 * restore it.
+	 */
+	private volatile Map<String, PersistedComponent> fComponentDirectory;
+
+	/**
+	 * Whether the component directory was read, it is <code>null</code> for
+	 * baselines that are not persisted
+	 */
+	private volatile boolean fComponentDirectoryRead;
+
 	/**
 	 * Constructs a new API baseline with the given name.
 	 *
@@ -294,6 +331,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		// clean up previous system library
 		for (IApiComponent comp : fSystemLibraryComponentList) {
 			fComponentsById.remove(comp.getSymbolicName());
+			fResolutionCache.componentChanged(comp.getSymbolicName());
 		}
 		if (fSystemPackageNames != null) {
 			fSystemPackageNames.clear();
@@ -313,6 +351,39 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private void clearComponentsCache() {
 		fComponentsProvidingPackageCache.clear();
+		fVisiblePackageIndex.clear();
+	}
+
+	/**
+	 * Drops the visible package index of the bundles whose resolution changed
+	 * in the given delta and of the bundles depending on them
+	 *
+	 * @param delta the delta of the last resolution or <code>null</code> to
+	 *            drop the whole index
+	 */
+	private void updateVisiblePackageIndex(StateDelta delta) {
+		if (delta == null) {
+			clearComponentsCache();
+			return;
+		}
+		BundleDelta[] changes = delta.getChanges();
+		if (changes.length == 0 || fVisiblePackageIndex.isEmpty()) {
+			return;
+		}
+		Set<String> changed = new HashSet<>();
+		List<BundleDescription> queue = new ArrayList<>();
+		for (BundleDelta change : changes) {
+			queue.add(change.getBundle());
+		}
+		while (!queue.isEmpty()) {
+			BundleDescription bundle = queue.remove(queue.size() - 1);
+			if (bundle.getSymbolicName() != null && changed.add(bundle.getSymbolicName())) {
+				Collections.addAll(queue, bundle.getDependents());
+			}
+		}
+		fVisiblePackageIndex.keySet().removeIf(component -> changed.contains(component.getSymbolicName()));
+		// the per package cache may refer to components of changed bundles
+		fComponentsProvidingPackageCache.clear();
 	}
 
 	/**
@@ -324,6 +395,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 
 		IApiComponent comp = fComponentsById.get(component.getSymbolicName());
+		fResolutionCache.componentChanged(component.getSymbolicName());
 
 		// if more than 1 components, store all of them
 		if (comp != null) {
@@ -351,6 +423,9 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 
 		fComponentsById.put(component.getSymbolicName(), component);
+		if (comp != null && comp != component) {
+			fVisiblePackageIndex.remove(comp);
+		}
 		if (component instanceof ProjectComponent projectApiComponent) {
 			fComponentsByProjectNames.put(projectApiComponent.getJavaProject().getProject().getName(), component);
 		}
@@ -373,7 +448,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			ees.addAll(component.getExecutionEnvironments());
 		}
 		resolveSystemLibrary(ees);
-		getState().resolve();
+		updateVisiblePackageIndex(getState().resolve());
 	}
 
 	/**
@@ -582,17 +657,10 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (component instanceof BundleComponent) {
 			BundleDescription bundle = ((BundleComponent) component).getBundleDescription();
 			if (bundle != null) {
-				StateHelper helper = getState().getStateHelper();
-				ExportPackageDescription[] visiblePackages = helper.getVisiblePackages(bundle);
-				for (ExportPackageDescription pkg : visiblePackages) {
-					String pkgName = pkg.getName();
-					if (pkgName.equals(".")) { //$NON-NLS-1$
-						// translate . to default package
-						pkgName = Util.DEFAULT_PACKAGE_NAME;
-					}
-					if (packageName.equals(pkgName)) {
-						BundleDescription bundleDescription = pkg.getExporter();
-						IApiComponent exporter = getApiComponent(bundleDescription.getSymbolicName());
+				String[] exporters = getVisiblePackages(component, bundle).get(packageName);
+				if (exporters != null) {
+					for (String exporterId : exporters) {
+						IApiComponent exporter = getApiComponent(exporterId);
 						if (exporter != null) {
 							componentsList.add(exporter);
 						}
@@ -619,6 +687,38 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 	}
 
+	/**
+	 * Returns the index of the packages visible to the given component, built
+	 * from the resolved state on first access
+	 *
+	 * @return the ids of the exporting components by package name
+	 */
+	private Map<String, String[]> getVisiblePackages(IApiComponent component, BundleDescription bundle) {
+		Map<String, String[]> index = fVisiblePackageIndex.get(component);
+		if (index != null) {
+			return index;
+		}
+		StateHelper helper = getState().getStateHelper();
+		ExportPackageDescription[] visiblePackages = helper.getVisiblePackages(bundle);
+		Map<String, List<String>> exporters = new HashMap<>(visiblePackages.length * 2);
+		for (ExportPackageDescription pkg : visiblePackages) {
+			String pkgName = pkg.getName();
+			if (pkgName.equals(".")) { //$NON-NLS-1$
+				// translate . to default package
+				pkgName = Util.DEFAULT_PACKAGE_NAME;
+			}
+			exporters.computeIfAbsent(pkgName, p -> new ArrayList<>(1)).add(pkg.getExporter().getSymbolicName());
+		}
+		index = new HashMap<>(exporters.size() * 2);
+		for (Entry<String, List<String>> entry : exporters.entrySet()) {
+			index.put(entry.getKey(), entry.getValue().toArray(new String[entry.getValue().size()]));
+		}
+		if (!disposed) {
+			fVisiblePackageIndex.put(component, index);
+		}
+		return index;
+	}
+
 	/**
 	 * Returns whether the specified package is supplied by the system library.
 	 *
@@ -663,6 +763,9 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 	@Override
 	public IApiComponent getApiComponent(String id) {
+		if (!isPersistedComponent(id)) {
+			return disposed ? null : fComponentsById.get(id);
+		}
 		loadBaselineInfos();
 		if (disposed) {
 			return null;
@@ -672,6 +775,9 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 	@Override
 	public Set<IApiComponent> getAllApiComponents(String id) {
+		if (!isPersistedComponent(id)) {
+			return Collections.emptySet();
+		}
 		loadBaselineInfos();
 		if (disposed) {
 			return Collections.emptySet();
@@ -688,6 +794,47 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		return fExecutionEnvironment;
 	}
 
+	/**
+	 * Returns if the component with the given id may be part of this baseline.
+	 * Until the baseline is restored this is answered from the directory of
+	 * the components of the *.profile file, without loading them.
+	 *
+	 * @param id the symbolic name of a component
+	 * @return <code>false</code> if the component is known not to be part of
+	 *         this baseline
+	 */
+	private boolean isPersistedComponent(String id) {
+		Map<String, PersistedComponent> directory = getPersistedComponents();
+		if (directory == null || directory.containsKey(id) || fComponentsById.containsKey(id)) {
+			return true;
+		}
+		// the system library is not persisted, it is resolved on restore
+		return !ApiPlugin.isRunningInFramework() || JavaRuntime.getExecutionEnvironmentsManager().getEnvironment(id) != null;
+	}
+
+	/**
+	 * Returns the components described in the *.profile file of this baseline
+	 * without loading them, as long as it is not restored
+	 *
+	 * @return the persisted components by id or <code>null</code> if the
+	 *         baseline is not persisted or already restored
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	public Map<String, PersistedComponent> getPersistedComponents() {
+		if (restored || disposed) {
+			return null;
+		}
+		if (!fComponentDirectoryRead) {
+			synchronized (this) {
+				if (!fComponentDirectoryRead) {
+					fComponentDirectory = ApiBaselineManager.getManager().readComponentDirectory(this);
+					fComponentDirectoryRead = true;
+				}
+			}
+		}
+		return fComponentDirectory;
+	}
+
 	/**
 	 * Loads the information from the *.profile file the first time the baseline
 	 * is accessed
@@ -734,6 +881,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			}
 			this.addApiComponents(components);
 			restored = true;
+			fComponentDirectory = null;
 		}
 	}
 
@@ -817,6 +965,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			component2.dispose();
 		}
 		clearComponentsCache();
+		fResolutionCache.clear();
 		fComponentsById.clear();
 		fAllComponentsById.clear();
 		fComponentsByProjectNames.clear();
@@ -864,6 +1013,16 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 				.toArray(IApiComponent[]::new);
 	}
 
+	/**
+	 * Returns the cache of the references resolved in this baseline.
+	 *
+	 * @return the reference resolution cache
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	public ReferenceResolutionCache getReferenceResolutionCache() {
+		return fResolutionCache;
+	}
+
 	/**
 	 * Clear cached settings for the given package.
 	 *
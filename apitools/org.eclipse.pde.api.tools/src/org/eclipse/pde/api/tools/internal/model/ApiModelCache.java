@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,7 @@ package org.eclipse.pde.api.tools.internal.model;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.pde.api.tools.internal.StripedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -33,7 +32,7 @@ public final class ApiModelCache {
 	/**
 	 * Cache used for {@link IApiElement}s
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	static class Cache<K, V> extends StripedOverflowingLRUCache<K, V> {
 
 		/**
 		 * Constructor
@@ -43,15 +42,10 @@ public final class ApiModelCache {
 		}
 
 		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
+		protected boolean close(K key, V value) {
 			return true;
 		}
 
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
-		}
-
 	}
 
 	static final int DEFAULT_CACHE_SIZE = 1000;
@@ -61,6 +55,17 @@ public final class ApiModelCache {
 	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
 	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
 
+	/**
+	 * Maximum number of type structures shared between baselines
+	 */
+	static final int STRUCTURE_CACHE_SIZE = DEFAULT_CACHE_SIZE * 5;
+
+	/**
+	 * Type structures by the content hash of their class file, shared between
+	 * all baselines
+	 */
+	final Cache<TypeStructureBuilder.ContentKey, TypeStructure> fStructureCache = new Cache<>(STRUCTURE_CACHE_SIZE, DEFAULT_OVERFLOW);
+
 	/**
 	 * Constructor - no instantiation
 	 */
@@ -113,16 +118,10 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.computeIfAbsent(baseline.getName(),
+							k -> new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2));
+					Cache<String, IApiElement> typecache = compcache.computeIfAbsent(id,
+							k -> new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW));
 					ApiType type = (ApiType) element;
 					if (type.isMemberType() || isMemberType(type.getName()) /*
 																			 * cache
@@ -144,11 +143,8 @@ public final class ApiModelCache {
 							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
 						}
 						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.computeIfAbsent(key,
+								k -> new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW));
 						mcache.put(type.getName(), type);
 					} else {
 						typecache.put(element.getName(), element);
@@ -383,6 +379,28 @@ public final class ApiModelCache {
 		return false;
 	}
 
+	/**
+	 * Returns the type structure built from class files with the given content
+	 * hash
+	 *
+	 * @param key the content hash of the class file
+	 * @return the shared type structure or <code>null</code>
+	 */
+	TypeStructure getTypeStructure(TypeStructureBuilder.ContentKey key) {
+		return fStructureCache.get(key);
+	}
+
+	/**
+	 * Shares the given type structure, which must not be modified anymore,
+	 * with all baselines
+	 *
+	 * @param key the content hash of the class file of the type
+	 * @param structure the type structure
+	 */
+	void cacheTypeStructure(TypeStructureBuilder.ContentKey key, TypeStructure structure) {
+		fStructureCache.put(key, structure);
+	}
+
 	/**
 	 * Clears out all cached information.
 	 */
@@ -391,6 +409,7 @@ public final class ApiModelCache {
 			fRootCache.flush();
 		}
 		flushMemberCache();
+		fStructureCache.flush();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -64,15 +65,15 @@ public class ApiModelFactory {
 	private static final String TARGET_PREFIX = "target:"; //$NON-NLS-1$
 
 	/**
-	 * Next available bundle id
+	 * Next available bundle id, components may be created concurrently
 	 */
-	private static long fNextId = 0L;
+	private static final AtomicLong fNextId = new AtomicLong();
 
 	/**
 	 * @return a viable int id for a bundle
 	 */
 	private static long getBundleID() {
-		return fNextId++;
+		return fNextId.getAndIncrement();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -135,6 +135,13 @@ public class ApiType extends ApiMember implements IApiType {
 	 */
 	private IApiMethod fEnclosingMethod = null;
 
+	/**
+	 * The shared structure this type was created from whose fields, methods
+	 * and member types have not been added to this type yet, or
+	 * <code>null</code>
+	 */
+	private volatile TypeStructure fStructure;
+
 	/**
 	 * Creates an API type. Note that if an API component is not specified, then
 	 * some operations will not be available (navigating super types, member
@@ -153,17 +160,68 @@ public class ApiType extends ApiMember implements IApiType {
 		fStorage = storage;
 	}
 
+	/**
+	 * Creates an API type of the given component from a type structure shared
+	 * with the types of byte identical class files of other baselines. The
+	 * fields, methods and member types are only created for this type when
+	 * they are first asked for.
+	 *
+	 * @param parent the parent {@link IApiElement} or <code>null</code> if none
+	 * @param structure the shared type structure
+	 * @param storage the storage this content was generated from
+	 */
+	ApiType(IApiElement parent, TypeStructure structure, IApiTypeRoot storage) {
+		this(parent, structure.name, structure.signature, structure.genericSignature, structure.flags, structure.enclosingTypeName, storage);
+		fSuperclassName = structure.superclassName;
+		fSuperInterfaceNames = structure.superInterfaceNames;
+		fSimpleName = structure.simpleName;
+		fAnonymous = structure.anonymous;
+		fLocal = structure.local;
+		fMemberType = structure.memberType;
+		if (structure.hasEnclosingMethodInfo) {
+			setEnclosingMethodInfo(structure.enclosingMethodName, structure.enclosingMethodSignature);
+		}
+		fStructure = structure;
+	}
+
+	/**
+	 * Adds the fields, methods and member types of the shared structure this
+	 * type was created from, if that has not been done yet
+	 */
+	private void initializeMembers() {
+		if (fStructure == null) {
+			return;
+		}
+		synchronized (this) {
+			TypeStructure structure = fStructure;
+			if (structure == null) {
+				return;
+			}
+			for (TypeStructure.FieldInfo field : structure.fields) {
+				putField(field.name(), field.signature(), field.genericSignature(), field.flags(), field.value());
+			}
+			for (TypeStructure.MethodInfo method : structure.methods) {
+				putMethod(method.name, method.signature, method.genericSignature, method.flags, method.exceptions).setDefaultValue(method.defaultValue);
+			}
+			for (String name : structure.memberTypeNames) {
+				putMemberType(name);
+			}
+			fStructure = null;
+		}
+	}
+
 	@Override
 	public List<IReference> extractReferences(int referenceMask, IProgressMonitor monitor) throws CoreException {
 		HashSet<Reference> references = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(this, references, referenceMask);
-		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) fStorage).getContents());
+		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) fStorage).getSharedContents());
 		reader.accept(extractor, ClassReader.SKIP_FRAMES);
 		return new LinkedList<>(references);
 	}
 
 	@Override
 	public IApiField getField(String name) {
+		initializeMembers();
 		if (fFields != null) {
 			return fFields.get(name);
 		}
@@ -172,6 +230,7 @@ public class ApiType extends ApiMember implements IApiType {
 
 	@Override
 	public IApiField[] getFields() {
+		initializeMembers();
 		if (fFields != null) {
 			return fFields.values().toArray(new IApiField[fFields.size()]);
 		}
@@ -192,6 +251,11 @@ public class ApiType extends ApiMember implements IApiType {
 	 * @param exceptions names of thrown exceptions
 	 */
 	public ApiMethod addMethod(String name, String signature, String genericSig, int modifiers, String[] exceptions) {
+		initializeMembers();
+		return putMethod(name, signature, genericSig, modifiers, exceptions);
+	}
+
+	private ApiMethod putMethod(String name, String signature, String genericSig, int modifiers, String[] exceptions) {
 		if (fMethods == null) {
 			fMethods = new LinkedHashMap<>();
 		}
@@ -209,6 +273,11 @@ public class ApiType extends ApiMember implements IApiType {
 	 * @param value constant value or <code>null</code> if none
 	 */
 	public ApiField addField(String name, String signature, String genericSig, int modifiers, Object value) {
+		initializeMembers();
+		return putField(name, signature, genericSig, modifiers, value);
+	}
+
+	private ApiField putField(String name, String signature, String genericSig, int modifiers, Object value) {
 		if (fFields == null) {
 			fFields = new LinkedHashMap<>();
 		}
@@ -219,6 +288,7 @@ public class ApiType extends ApiMember implements IApiType {
 
 	@Override
 	public IApiMethod getMethod(String name, String signature) {
+		initializeMembers();
 		if (fMethods != null) {
 			return fMethods.get(new MethodKey(getName(), name, signature, true));
 		}
@@ -227,6 +297,7 @@ public class ApiType extends ApiMember implements IApiType {
 
 	@Override
 	public IApiMethod[] getMethods() {
+		initializeMembers();
 		if (fMethods != null) {
 			return fMethods.values().toArray(new IApiMethod[fMethods.size()]);
 		}
@@ -506,6 +577,11 @@ public class ApiType extends ApiMember implements IApiType {
 	 * @param name member type name
 	 */
 	public void addMemberType(String name) {
+		initializeMembers();
+		putMemberType(name);
+	}
+
+	private void putMemberType(String name) {
 		if (fMemberTypes == null) {
 			fMemberTypes = new LinkedHashMap<>();
 		}
@@ -516,6 +592,7 @@ public class ApiType extends ApiMember implements IApiType {
 
 	@Override
 	public IApiType getMemberType(String simpleName) throws CoreException {
+		initializeMembers();
 		if (fMemberTypes == null) {
 			return null;
 		}
@@ -544,6 +621,7 @@ public class ApiType extends ApiMember implements IApiType {
 
 	@Override
 	public IApiType[] getMemberTypes() throws CoreException {
+		initializeMembers();
 		if (fMemberTypes == null) {
 			return EMPTY_TYPES;
 		}
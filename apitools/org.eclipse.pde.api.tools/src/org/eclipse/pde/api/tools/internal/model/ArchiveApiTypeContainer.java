@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,20 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
@@ -44,7 +49,6 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	static class ArchiveApiTypeRoot extends AbstractApiTypeRoot implements Comparable<Object> {
 
 		private final String fTypeName;
-		private byte[] fContents = null;
 
 		/**
 		 * Constructs a new handle to an {@link IApiTypeRoot} in the archive.
@@ -82,18 +86,19 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 
 		@Override
 		public byte[] getContents() throws CoreException {
-			if (fContents != null) {
-				return fContents;
-			}
+			// the shared bytes are cached for all readers, hand out a copy
+			return getSharedContents().clone();
+		}
+
+		@Override
+		public byte[] getSharedContents() throws CoreException {
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
+				return archive.getContents(getName());
 			} catch (IOException e) {
 				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
 			}
-			return fContents;
+			return null;
 		}
 
 		@Override
@@ -118,6 +123,19 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * The opened archive, or <code>null</code> if not opened yet or if the
+	 * location is the JRT file system. Its central directory is read once when
+	 * opened and entries are read from it directly.
+	 */
+	private ZipFile fZipFile;
+
+	/**
+	 * Prefix of the keys of this archive in the {@link ClassFileContentCache},
+	 * identifying the location and the version of the archive
+	 */
+	private String fCacheKeyPrefix;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -131,19 +149,73 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	}
 
 	/**
-	 * Converts the location to a path in the applicable file system.
+	 * @return whether the location is the JRT file system of a modular JRE
+	 */
+	@SuppressWarnings("restriction")
+	private boolean isJrt() {
+		return fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR);
+	}
+
+	/**
+	 * Returns the modules root of the JRT file system of the location.
 	 *
-	 * @return the path corresponding to the location.
+	 * @return the path of the modules root
 	 */
 	@SuppressWarnings("restriction")
-	private Path getLocation() throws IOException {
-		Path path = Path.of(fLocation);
-		if (fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
-			Path jreRoot = path.getParent().getParent();
-			FileSystem jrtFileSystem = org.eclipse.jdt.internal.compiler.util.JRTUtil.getJrtFileSystem(jreRoot);
-			return jrtFileSystem.getPath("modules"); //$NON-NLS-1$
-		} else {
-			return org.eclipse.jdt.internal.compiler.util.JRTUtil.getJarFileSystem(path).getPath("/"); //$NON-NLS-1$
+	private Path getJrtModules() throws IOException {
+		Path jreRoot = Path.of(fLocation).getParent().getParent();
+		FileSystem jrtFileSystem = org.eclipse.jdt.internal.compiler.util.JRTUtil.getJrtFileSystem(jreRoot);
+		return jrtFileSystem.getPath("modules"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Opens the archive if not already open. Must be called holding the lock
+	 * of this container.
+	 */
+	private ZipFile getZipFile() throws IOException {
+		if (fZipFile == null) {
+			File file = new File(fLocation);
+			fZipFile = new ZipFile(file);
+			fCacheKeyPrefix = fLocation + '|' + file.lastModified() + '|' + file.length() + '!';
+		}
+		return fZipFile;
+	}
+
+	/**
+	 * Returns the contents of the given class file entry, served from the
+	 * shared {@link ClassFileContentCache} if possible.
+	 *
+	 * @param entryName the name of the entry
+	 * @return the bytes of the entry, must not be modified
+	 */
+	byte[] getContents(String entryName) throws IOException {
+		ClassFileContentCache cache = ClassFileContentCache.getDefault();
+		if (isJrt()) {
+			String key = fLocation + '!' + entryName;
+			byte[] contents = cache.get(key);
+			if (contents == null) {
+				contents = Files.readAllBytes(getJrtModules().resolve(entryName));
+				cache.put(key, contents);
+			}
+			return contents;
+		}
+		// the entry is read holding the lock so the archive cannot be closed
+		// while it is read
+		synchronized (this) {
+			ZipFile zipFile = getZipFile();
+			String key = fCacheKeyPrefix + entryName;
+			byte[] contents = cache.get(key);
+			if (contents == null) {
+				ZipEntry entry = zipFile.getEntry(entryName);
+				if (entry == null) {
+					throw new IOException("Entry not found: " + entryName); //$NON-NLS-1$
+				}
+				try (InputStream in = zipFile.getInputStream(entry)) {
+					contents = in.readAllBytes();
+				}
+				cache.put(key, contents);
+			}
+			return contents;
 		}
 	}
 
@@ -185,7 +257,15 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		if (fZipFile != null) {
+			try {
+				fZipFile.close();
+			} catch (IOException e) {
+				abort("Failed to close archive: " + fLocation, e); //$NON-NLS-1$
+			} finally {
+				fZipFile = null;
+			}
+		}
 	}
 
 	/**
@@ -225,16 +305,32 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	private synchronized void init() throws CoreException {
 		if (fPackages == null) {
 			fPackages = new TreeMap<>();
+			if (!isJrt()) {
+				try {
+					Enumeration<? extends ZipEntry> entries = getZipFile().entries();
+					while (entries.hasMoreElements()) {
+						String name = entries.nextElement().getName();
+						if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+							String className = name.substring(0, name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+							String pkg = Signatures.getPackageName(className);
+							Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
+							fileNames.put(className, name);
+						}
+					}
+				} catch (IOException e) {
+					abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
+				}
+				return;
+			}
 			try {
-				Path location = getLocation();
-				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
+				Path location = getJrtModules();
 				try (Stream<Path> walk = Files.walk(location)) {
 					walk.forEach(it -> {
 						String name = location.relativize(it).toString();
 						if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
 							// In the JRT file system, the first segment will be the module name,
 							// which we must strip.
-							String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
+							String className = name.substring(name.indexOf('/') + 1,
 									name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
 							String pkg = Signatures.getPackageName(className);
 							Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
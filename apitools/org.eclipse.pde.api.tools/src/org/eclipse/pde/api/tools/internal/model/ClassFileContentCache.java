@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+/**
+ * Cache of class file bytes read from archives, shared by all
+ * {@link ArchiveApiTypeContainer}s. The cache is bounded by the total number
+ * of bytes it holds, least recently used contents being dropped first, and
+ * every entry is only softly referenced so that the garbage collector can
+ * reclaim the cache under memory pressure. Type roots therefore no longer keep
+ * their contents, and the heap used for class file bytes stays flat however
+ * large the baselines being compared or scanned are.
+ */
+final class ClassFileContentCache {
+
+	/**
+	 * Default upper bound of the cached bytes, can be changed with the
+	 * <code>org.eclipse.pde.api.tools.classFileCacheSize</code> system property
+	 * (in bytes)
+	 */
+	static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+	private static final ClassFileContentCache INSTANCE = new ClassFileContentCache(
+			Long.getLong("org.eclipse.pde.api.tools.classFileCacheSize", DEFAULT_MAX_BYTES)); //$NON-NLS-1$
+
+	private record Content(SoftReference<byte[]> bytes, int length) {
+	}
+
+	private final long fMaxBytes;
+	private final LinkedHashMap<String, Content> fContents = new LinkedHashMap<>(256, 0.75f, true);
+	private long fBytes = 0;
+
+	ClassFileContentCache(long maxBytes) {
+		fMaxBytes = maxBytes;
+	}
+
+	/**
+	 * @return the cache shared by all archives
+	 */
+	static ClassFileContentCache getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the cached contents for the given key, or <code>null</code> if
+	 * they are not cached or have been reclaimed. Callers must not modify the
+	 * returned array.
+	 *
+	 * @param key the key identifying the archive version and entry
+	 * @return the contents or <code>null</code>
+	 */
+	synchronized byte[] get(String key) {
+		Content content = fContents.get(key);
+		if (content == null) {
+			return null;
+		}
+		byte[] bytes = content.bytes().get();
+		if (bytes == null) {
+			fContents.remove(key);
+			fBytes -= content.length();
+		}
+		return bytes;
+	}
+
+	/**
+	 * Caches the given contents, dropping least recently used ones if the
+	 * cache exceeds its size.
+	 *
+	 * @param key the key identifying the archive version and entry
+	 * @param bytes the contents
+	 */
+	synchronized void put(String key, byte[] bytes) {
+		if (bytes.length > fMaxBytes) {
+			return;
+		}
+		Content old = fContents.put(key, new Content(new SoftReference<>(bytes), bytes.length));
+		if (old != null) {
+			fBytes -= old.length();
+		}
+		fBytes += bytes.length;
+		for (Iterator<Entry<String, Content>> iter = fContents.entrySet().iterator(); iter.hasNext() && fBytes > fMaxBytes;) {
+			Content content = iter.next().getValue();
+			iter.remove();
+			fBytes -= content.length();
+		}
+	}
+
+	/**
+	 * @return the number of bytes currently accounted to the cache
+	 */
+	synchronized long getSize() {
+		return fBytes;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.util.List;
+
+/**
+ * The contents of a class file as parsed by {@link TypeStructureBuilder}: the
+ * names, signatures, flags and members of the type, without a parent, storage
+ * or anything resolved in a baseline.
+ * <p>
+ * A type structure is shared by the {@link ApiType}s of all baselines that
+ * contain a byte identical class file. It is only modified while it is being
+ * built and must not be modified once it has been built.
+ * </p>
+ */
+final class TypeStructure {
+
+	/**
+	 * A field of the type
+	 */
+	record FieldInfo(String name, String signature, String genericSignature, int flags, Object value) {
+	}
+
+	/**
+	 * A method of the type. The default value is set while the annotation
+	 * default of the method is visited.
+	 */
+	static final class MethodInfo {
+		final String name;
+		final String signature;
+		final String genericSignature;
+		final int flags;
+		final String[] exceptions;
+		String defaultValue;
+
+		MethodInfo(String name, String signature, String genericSignature, int flags, String[] exceptions) {
+			this.name = name;
+			this.signature = signature;
+			this.genericSignature = genericSignature;
+			this.flags = flags;
+			this.exceptions = exceptions;
+		}
+	}
+
+	final String name;
+	final String signature;
+	final String genericSignature;
+	final String enclosingTypeName;
+	int flags;
+	String superclassName;
+	String[] superInterfaceNames;
+	String simpleName;
+	boolean anonymous;
+	boolean local;
+	boolean memberType;
+
+	/**
+	 * Whether the class file has an enclosing method attribute, whose name and
+	 * signature may still be <code>null</code>
+	 */
+	boolean hasEnclosingMethodInfo;
+	String enclosingMethodName;
+	String enclosingMethodSignature;
+
+	List<FieldInfo> fields = List.of();
+	List<MethodInfo> methods = List.of();
+
+	/**
+	 * Qualified names of the member types
+	 */
+	List<String> memberTypeNames = List.of();
+
+	TypeStructure(String name, String signature, String genericSignature, int flags, String enclosingTypeName) {
+		this.name = name;
+		this.signature = signature;
+		this.genericSignature = genericSignature;
+		this.flags = flags;
+		this.enclosingTypeName = enclosingTypeName;
+	}
+}
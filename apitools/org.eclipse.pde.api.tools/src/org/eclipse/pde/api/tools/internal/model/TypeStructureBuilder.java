@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,12 @@ package org.eclipse.pde.api.tools.internal.model;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -42,22 +47,41 @@ import org.objectweb.asm.tree.ClassNode;
  * Class adapter used to create an API type structure
  */
 public class TypeStructureBuilder extends ClassVisitor {
-	ApiType fType;
-	IApiComponent fComponent;
+
+	/**
+	 * Content hash of a class file: its length and the first 128 bits of its
+	 * SHA-256 digest
+	 */
+	record ContentKey(int length, long high, long low) {
+
+		/**
+		 * @return the key of the given class file bytes or <code>null</code>
+		 *         if they cannot be hashed
+		 */
+		static ContentKey of(byte[] bytes) {
+			try {
+				ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(bytes)); //$NON-NLS-1$
+				return new ContentKey(bytes.length, digest.getLong(), digest.getLong());
+			} catch (NoSuchAlgorithmException e) {
+				return null;
+			}
+		}
+	}
+
+	TypeStructure fType;
+	List<TypeStructure.FieldInfo> fFields = new ArrayList<>();
+	List<TypeStructure.MethodInfo> fMethods = new ArrayList<>();
+	List<String> fMemberTypeNames = new ArrayList<>();
 	IApiTypeRoot fFile;
 
 	/**
-	 * Builds a type structure for a class file. Note that if an API component
-	 * is not specified, then some operations on the resulting {@link IApiType}
-	 * will not be available (navigating super types, member types, etc).
+	 * Builds a type structure for a class file.
 	 *
 	 * @param cv class file visitor
-	 * @param component originating API component or <code>null</code> if
-	 *            unknown
+	 * @param file the class file or <code>null</code> if unknown
 	 */
-	TypeStructureBuilder(ClassVisitor cv, IApiComponent component, IApiTypeRoot file) {
+	TypeStructureBuilder(ClassVisitor cv, IApiTypeRoot file) {
 		super(Util.LATEST_OPCODES_ASM, cv);
-		fComponent = component;
 		fFile = file;
 	}
 
@@ -79,16 +103,16 @@ public class TypeStructureBuilder extends ClassVisitor {
 			laccess &= ~Opcodes.ACC_DEPRECATED;
 			laccess |= Flags.AccDeprecated;
 		}
-		fType = new ApiType(fComponent, name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName, fFile);
+		fType = new TypeStructure(name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName);
 		if (superName != null) {
-			fType.setSuperclassName(superName.replace('/', '.'));
+			fType.superclassName = superName.replace('/', '.');
 		}
 		if (interfaces != null && interfaces.length > 0) {
 			String[] names = new String[interfaces.length];
 			for (int i = 0; i < names.length; i++) {
 				names[i] = interfaces[i].replace('/', '.');
 			}
-			fType.setSuperInterfaceNames(names);
+			fType.superInterfaceNames = names;
 		}
 		super.visit(version, laccess, name, signature, superName, interfaces);
 	}
@@ -97,12 +121,12 @@ public class TypeStructureBuilder extends ClassVisitor {
 	public void visitInnerClass(String name, String outerName, String innerName, int access) {
 		super.visitInnerClass(name, outerName, innerName, access);
 		String currentName = name.replace('/', '.');
-		if (currentName.equals(fType.getName())) {
+		if (currentName.equals(fType.name)) {
 			if (innerName == null) {
-				fType.setAnonymous();
+				fType.anonymous = true;
 			} else if (outerName == null) {
-				fType.setLocal();
-				fType.setSimpleName(innerName);
+				fType.local = true;
+				fType.simpleName = innerName;
 			}
 		}
 		if (outerName != null && innerName != null) {
@@ -110,21 +134,23 @@ public class TypeStructureBuilder extends ClassVisitor {
 			// is a workaround for some
 			// bogus synthetic types created by another compiler
 			String currentOuterName = outerName.replace('/', '.');
-			if (currentOuterName.equals(fType.getName())) {
+			if (currentOuterName.equals(fType.name)) {
 				// this is a real type member defined in the descriptor (not
 				// just a reference to a type member)
-				fType.addMemberType(currentName);
-			} else if (currentName.equals(fType.getName())) {
-				fType.setModifiers(access);
-				fType.setSimpleName(innerName);
-				fType.setMemberType();
+				fMemberTypeNames.add(currentName);
+			} else if (currentName.equals(fType.name)) {
+				fType.flags = access;
+				fType.simpleName = innerName;
+				fType.memberType = true;
 			}
 		}
 	}
 
 	@Override
 	public void visitOuterClass(String owner, String name, String desc) {
-		fType.setEnclosingMethodInfo(name, desc);
+		fType.hasEnclosingMethodInfo = true;
+		fType.enclosingMethodName = name;
+		fType.enclosingMethodSignature = desc;
 	}
 
 	@Override
@@ -134,7 +160,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 			laccess &= ~Opcodes.ACC_DEPRECATED;
 			laccess |= Flags.AccDeprecated;
 		}
-		fType.addField(name, desc, signature, laccess, value);
+		fFields.add(new TypeStructure.FieldInfo(name, desc, signature, laccess, value));
 		return null;
 	}
 
@@ -152,17 +178,10 @@ public class TypeStructureBuilder extends ClassVisitor {
 				names[i] = exceptions[i].replace('/', '.');
 			}
 		}
-		final ApiMethod method = fType.addMethod(name, desc, signature, laccess, names);
+		final TypeStructure.MethodInfo method = new TypeStructure.MethodInfo(name, desc, signature, laccess, names);
+		fMethods.add(method);
 		return new MethodVisitor(Util.LATEST_OPCODES_ASM,
 				super.visitMethod(laccess, name, desc, signature, exceptions)) {
-			@Override
-			public AnnotationVisitor visitAnnotation(String sig, boolean visible) {
-				if (visible && "Ljava/lang/invoke/MethodHandle$PolymorphicSignature;".equals(sig)) { //$NON-NLS-1$
-					method.isPolymorphic();
-				}
-				return super.visitAnnotation(sig, visible);
-			}
-
 			@Override
 			public AnnotationVisitor visitAnnotationDefault() {
 				return new AnnotationDefaultVisitor(method);
@@ -170,6 +189,14 @@ public class TypeStructureBuilder extends ClassVisitor {
 		};
 	}
 
+	@Override
+	public void visitEnd() {
+		fType.fields = List.copyOf(fFields);
+		fType.methods = List.copyOf(fMethods);
+		fType.memberTypeNames = List.copyOf(fMemberTypeNames);
+		super.visitEnd();
+	}
+
 	private static IApiType logAndReturn(IApiTypeRoot file, Exception e) {
 		if (ApiPlugin.DEBUG_BUILDER) {
 			ApiPlugin.log(Status.error(NLS.bind(Messages.TypeStructureBuilder_badClassFileEncountered, file.getTypeName()), e));
@@ -181,13 +208,13 @@ public class TypeStructureBuilder extends ClassVisitor {
 	 * Visit the default value for an annotation
 	 */
 	static class AnnotationDefaultVisitor extends AnnotationVisitor {
-		ApiMethod method;
+		TypeStructure.MethodInfo method;
 		Object value;
 		StringBuilder buff = new StringBuilder();
 		boolean trace = false;
 		int traceCount = 0;
 
-		public AnnotationDefaultVisitor(ApiMethod method) {
+		public AnnotationDefaultVisitor(TypeStructure.MethodInfo method) {
 			super(Util.LATEST_OPCODES_ASM);
 			this.method = method;
 		}
@@ -231,7 +258,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 				traceCount--;
 				trace = traceCount != 0;
 			} else {
-				method.setDefaultValue(this.value == null ? null : this.value.toString());
+				method.defaultValue = this.value == null ? null : this.value.toString();
 			}
 		}
 
@@ -255,7 +282,28 @@ public class TypeStructureBuilder extends ClassVisitor {
 	 * @param file associated class file
 	 */
 	public static IApiType buildTypeStructure(byte[] bytes, IApiComponent component, IApiTypeRoot file) {
-		TypeStructureBuilder visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+		// byte identical class files, for example of the same bundle in the
+		// workspace and reference baselines, share their structure
+		ContentKey key = ContentKey.of(bytes);
+		ApiModelCache cache = ApiModelCache.getCache();
+		TypeStructure structure = key != null ? cache.getTypeStructure(key) : null;
+		if (structure == null) {
+			structure = parseTypeStructure(bytes, file);
+			if (structure == null) {
+				return null;
+			}
+			if (key != null) {
+				cache.cacheTypeStructure(key, structure);
+			}
+		}
+		return new ApiType(component, structure, file);
+	}
+
+	/**
+	 * Parses the type structure of the given .class file bytes
+	 */
+	private static TypeStructure parseTypeStructure(byte[] bytes, IApiTypeRoot file) {
+		TypeStructureBuilder visitor = new TypeStructureBuilder(new ClassNode(), file);
 		try {
 			ClassReader classReader = new ClassReader(bytes);
 			classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
@@ -264,7 +312,8 @@ public class TypeStructureBuilder extends ClassVisitor {
 			return null;
 		} catch (IllegalArgumentException iae) {
 			// thrown from ASM 5.0 for bad bytecodes
-			return logAndReturn(file, iae);
+			logAndReturn(file, iae);
+			return null;
 		}
 		return visitor.fType;
 	}
@@ -278,7 +327,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 		if (typeRoot instanceof AbstractApiTypeRoot abstractApiTypeRoot) {
 			EnclosingMethodSetter visitor = new EnclosingMethodSetter(new ClassNode(), currentAnonymousLocalType.getName());
 			try {
-				ClassReader classReader = new ClassReader(abstractApiTypeRoot.getContents());
+				ClassReader classReader = new ClassReader(abstractApiTypeRoot.getSharedContents());
 				classReader.accept(visitor, ClassReader.SKIP_FRAMES);
 			} catch (ArrayIndexOutOfBoundsException | CoreException e) {
 				// bytes could not be retrieved for abstractApiTypeRoot
@@ -386,7 +435,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 	@Override
 	public String toString() {
 		StringBuilder buffer = new StringBuilder();
-		buffer.append("Type structure builder for: ").append(fType.getName()); //$NON-NLS-1$
+		buffer.append("Type structure builder for: ").append(fType.name); //$NON-NLS-1$
 		buffer.append("\nBacked by file: ").append(fFile.getName()); //$NON-NLS-1$
 		return buffer.toString();
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,27 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ApiDigestIndex;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
 import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -33,6 +43,8 @@ import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiScope;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
@@ -99,52 +111,85 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compareBaselines(referenceBaseline, baseline, visibilityModifiers, force, false, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference, comparing the pairs of API components of the
+	 * two baselines concurrently.
+	 * <p>
+	 * Each comparison builds its own delta tree and the trees are added to the
+	 * resulting delta in the same order as
+	 * {@link #compare(IApiBaseline, IApiBaseline, int, boolean, IProgressMonitor)}
+	 * does, so the result is identical.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 * @since 1.3.600
+	 */
+	public static IDelta compareConcurrently(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compareBaselines(referenceBaseline, baseline, visibilityModifiers, force, true, monitor);
+	}
+
+	private static IDelta compareBaselines(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean concurrent, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
 		}
+		long start = System.currentTimeMillis();
 		IApiComponent[] apiComponents = referenceBaseline.getApiComponents();
 		IApiComponent[] apiComponents2 = baseline.getApiComponents();
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
+		// the concurrent comparisons, in the order of the API components
+		List<ForkJoinTask<IDelta[]>> tasks = new ArrayList<>();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
+		try {
+			for (IApiComponent apiComponent : apiComponents) {
+				apiLoopMonitor.split(1);
+				if (!apiComponent.isSystemComponent()) {
+					String id = apiComponent.getSymbolicName();
+					IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+					if (apiComponentBaseline != null) {
+						apiComponentsIds.add(id);
 					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+					if (concurrent) {
+						tasks.add(ForkJoinTask.adapt(() -> {
+							if (localmonitor.isCanceled()) {
+								throw new OperationCanceledException();
 							}
-						}
+							return compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, force, null);
+						}).fork());
+					} else {
+						addDeltas(globalDelta, compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, force, localmonitor));
 					}
 				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
-				}
 			}
+			for (ForkJoinTask<IDelta[]> task : tasks) {
+				addDeltas(globalDelta, task.join());
+				localmonitor.checkCanceled();
+			}
+		} finally {
+			// stop the remaining comparisons if one failed or was canceled
+			for (ForkJoinTask<IDelta[]> task : tasks) {
+				task.cancel(false);
+			}
+		}
+		if (ApiPlugin.DEBUG_API_COMPARATOR) {
+			System.out.println("Compared " + apiComponents.length + " components in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + "ms" + (concurrent ? " concurrently" : "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
 		SubMonitor elementLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents2.length);
 		for (IApiComponent element : apiComponents2) {
@@ -162,6 +207,52 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Returns the deltas of an API component of the reference baseline, in the
+	 * order they are added to the delta of the baselines. An entry is
+	 * <code>null</code> if there is no such delta.
+	 *
+	 * @param apiComponent the API component of the reference baseline
+	 * @param apiComponentBaseline the API component with the same id in the
+	 *            baseline, or <code>null</code> if it was removed
+	 * @param monitor the monitor the comparison of the API components reports
+	 *            to, or <code>null</code>
+	 */
+	private static IDelta[] compareComponent(final IApiComponent apiComponent, final IApiComponent apiComponentBaseline, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final SubMonitor monitor) {
+		String id = apiComponent.getSymbolicName();
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			return new IDelta[] { new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED,
+					IDelta.API_COMPONENT, null, id, id) };
+		}
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id, versionString,
+				versionString2);
+		IDelta delta = null;
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			try {
+				delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers,
+						monitor == null ? null : monitor.split(1));
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+		}
+		return new IDelta[] { bundleVersionChangesDelta, delta };
+	}
+
+	private static void addDeltas(Delta globalDelta, IDelta[] deltas) {
+		for (IDelta delta : deltas) {
+			if (delta != null && delta != NO_DELTA) {
+				globalDelta.add(delta);
+			}
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -281,6 +372,13 @@ public class ApiComparator {
 						currentEE,
 						Util.getComponentVersionsId(referenceComponent) }));
 			}
+			if (globalDelta.isEmpty() && isUnchanged(referenceComponent, component2, referenceBaseline, baseline)) {
+				ApiBaselineManager.getManager().getDigestIndex().componentSkipped();
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Skipped comparison of " + referenceComponentId + ": identical archives"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return NO_DELTA;
+			}
 			return internalCompare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, globalDelta, localmonitor.split(1));
 		} catch (CoreException e) {
 			// null means an error case
@@ -288,6 +386,103 @@ public class ApiComparator {
 		}
 	}
 
+	/**
+	 * Returns if the two given components are loaded from archives with the
+	 * same content and all the components they depend on are loaded from the
+	 * same archives in both baselines, in which case their comparison cannot
+	 * report any difference.
+	 */
+	private static boolean isUnchanged(IApiComponent referenceComponent, IApiComponent component2, IApiBaseline referenceBaseline, IApiBaseline baseline) throws CoreException {
+		ApiDigestIndex index = ApiBaselineManager.getManager().getDigestIndex();
+		if (!(referenceBaseline instanceof ApiBaseline apiBaseline) || !index.isSameArtifact(referenceComponent, component2)) {
+			return false;
+		}
+		for (IApiComponent prerequisite : apiBaseline.getPrerequisiteComponents(new IApiComponent[] { referenceComponent })) {
+			if (prerequisite.isSystemComponent() || prerequisite == referenceComponent) {
+				continue;
+			}
+			IApiComponent prerequisite2 = baseline.getApiComponent(prerequisite.getSymbolicName());
+			if (prerequisite2 == null || !index.isSameArtifact(prerequisite, prerequisite2)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns if the two given types have the same class files, API
+	 * annotations, member types and super types, in which case their comparison
+	 * cannot report any difference. Super types must be
+	 * <code>java.lang.Object</code> or come from the compared components and be
+	 * unchanged as well.
+	 *
+	 * @param unchangedTypes the types already checked, by name
+	 */
+	private static boolean isUnchanged(IApiType type, IApiType type2, IApiComponent component, IApiComponent component2, IApiDescription apiDescription, IApiDescription apiDescription2, ApiDigestIndex index, Map<String, Boolean> unchangedTypes) {
+		if (type == null || type2 == null) {
+			return false;
+		}
+		String name = type.getName();
+		Boolean unchanged = unchangedTypes.get(name);
+		if (unchanged != null) {
+			return unchanged.booleanValue();
+		}
+		// assume a change while checking in case of cycles
+		unchangedTypes.put(name, Boolean.FALSE);
+		boolean result;
+		try {
+			result = isUnchangedType(type, type2, component, component2, apiDescription, apiDescription2, index, unchangedTypes);
+		} catch (CoreException e) {
+			result = false;
+		}
+		unchangedTypes.put(name, Boolean.valueOf(result));
+		return result;
+	}
+
+	private static boolean isUnchangedType(IApiType type, IApiType type2, IApiComponent component, IApiComponent component2, IApiDescription apiDescription, IApiDescription apiDescription2, ApiDigestIndex index, Map<String, Boolean> unchangedTypes) throws CoreException {
+		if (!type.getName().equals(type2.getName()) || !component.equals(type.getApiComponent()) || !component2.equals(type2.getApiComponent())) {
+			return false;
+		}
+		if (!index.isSameContent(component, type.getTypeRoot(), component2, type2.getTypeRoot())) {
+			return false;
+		}
+		if (!Objects.equals(apiDescription.resolveAnnotations(type.getHandle()), apiDescription2.resolveAnnotations(type2.getHandle()))) {
+			return false;
+		}
+		// same class files, so the members are the same
+		for (IApiField field : type.getFields()) {
+			if (!Objects.equals(apiDescription.resolveAnnotations(field.getHandle()), apiDescription2.resolveAnnotations(type2.getField(field.getName()).getHandle()))) {
+				return false;
+			}
+		}
+		for (IApiMethod method : type.getMethods()) {
+			if (!Objects.equals(apiDescription.resolveAnnotations(method.getHandle()), apiDescription2.resolveAnnotations(type2.getMethod(method.getName(), method.getSignature()).getHandle()))) {
+				return false;
+			}
+		}
+		for (IApiType memberType : type.getMemberTypes()) {
+			if (!isUnchanged(memberType, type2.getMemberType(memberType.getSimpleName()), component, component2, apiDescription, apiDescription2, index, unchangedTypes)) {
+				return false;
+			}
+		}
+		String superclassName = type.getSuperclassName();
+		if (superclassName != null && !Object.class.getName().equals(superclassName)
+				&& !isUnchanged(type.getSuperclass(), type2.getSuperclass(), component, component2, apiDescription, apiDescription2, index, unchangedTypes)) {
+			return false;
+		}
+		IApiType[] superInterfaces = type.getSuperInterfaces();
+		IApiType[] superInterfaces2 = type2.getSuperInterfaces();
+		if (superInterfaces.length != superInterfaces2.length) {
+			return false;
+		}
+		for (int i = 0; i < superInterfaces.length; i++) {
+			if (!isUnchanged(superInterfaces[i], superInterfaces2[i], component, component2, apiDescription, apiDescription2, index, unchangedTypes)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the given reference component. The given component cannot
@@ -614,6 +809,9 @@ public class ApiComparator {
 		IApiTypeContainer[] typeRootContainers2 = component2.getApiTypeContainers(id);
 		final IApiDescription apiDescription = component.getApiDescription();
 		final IApiDescription apiDescription2 = component2.getApiDescription();
+		final ApiDigestIndex digestIndex = ApiBaselineManager.getManager().getDigestIndex();
+		final Map<String, Boolean> unchangedTypes = new HashMap<>();
+		final int[] skippedTypes = new int[1];
 		if (typeRootContainers != null) {
 			SubMonitor loopMonitor = localmonitor.split(1).setWorkRemaining(typeRootContainers.length);
 			for (IApiTypeContainer container : typeRootContainers) {
@@ -728,6 +926,12 @@ public class ApiComparator {
 												Util.getComponentVersionsId(component2) }));
 									}
 									typeRootBaseLineNames.add(typeName);
+									if (provider == component2 && isUnchanged(typeDescriptor, typeDescriptor2, component, component2, apiDescription, apiDescription2, digestIndex, unchangedTypes)) {
+										// identical class files cannot differ
+										digestIndex.typeSkipped();
+										skippedTypes[0]++;
+										return;
+									}
 									ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
 									IDelta delta = comparator.getDelta();
 									if (ApiPlugin.DEBUG_API_COMPARATOR) {
@@ -751,6 +955,9 @@ public class ApiComparator {
 					AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), loopMonitor);
 				}
 			}
+			if (ApiPlugin.DEBUG_API_COMPARATOR && skippedTypes[0] > 0) {
+				System.out.println("Skipped comparison of " + skippedTypes[0] + " types of " + id + ": identical class files"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
 		}
 		localmonitor.setWorkRemaining(3);
 		IRequiredComponentDescription[] requiredComponents = component.getRequiredComponents();
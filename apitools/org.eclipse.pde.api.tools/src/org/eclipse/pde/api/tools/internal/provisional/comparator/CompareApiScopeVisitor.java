@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,7 +53,7 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		IDelta delta = ApiComparator.compareConcurrently(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
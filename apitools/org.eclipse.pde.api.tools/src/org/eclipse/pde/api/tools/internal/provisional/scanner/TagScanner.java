@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,18 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
@@ -35,6 +42,7 @@ import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.FileASTRequestor;
 import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.MarkerAnnotation;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
@@ -45,9 +53,11 @@ import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.TagElement;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.CompilationUnit;
 import org.eclipse.pde.api.tools.internal.JavadocTagManager;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -597,6 +607,12 @@ public class TagScanner {
 		}
 	}
 
+	/**
+	 * Maximum number of compilation units parsed together by one worker in
+	 * {@link TagScanner#scan(CompilationUnit[], IApiDescription, IApiTypeContainer, Map, IProgressMonitor)}
+	 */
+	static final int BATCH_SIZE = 64;
+
 	/**
 	 * The singleton instance of the scanner
 	 */
@@ -681,4 +697,124 @@ public class TagScanner {
 		Visitor visitor = new Visitor(description, container);
 		cunit.accept(visitor);
 	}
+
+	/**
+	 * Scans the specified source {@linkplain CompilationUnit}s for contributed
+	 * API javadoc tags. Tags on methods will have unresolved signatures.
+	 * <p>
+	 * The sources are split in batches parsed together with
+	 * {@link ASTParser#createASTs(String[], String[], String[], FileASTRequestor, IProgressMonitor)}
+	 * on the common fork join pool. Each batch annotates its own API
+	 * description, which is merged into the given description once all batches
+	 * are scanned, so the given description is only modified by the calling
+	 * thread.
+	 * </p>
+	 *
+	 * @param sources the source files to scan for tags
+	 * @param description the API description to annotate with any new tag rules
+	 *            found
+	 * @param container optional class file container containing the class
+	 *            files for the given sources that can be used to resolve
+	 *            method signatures if required (for tags on methods). It must
+	 *            support concurrent lookups. If not provided
+	 *            (<code>null</code>), method signatures will be unresolved.
+	 * @param options a map of Java compiler options to use when creating the
+	 *            ASTs to scan or <code>null</code> if default options should be
+	 *            used
+	 * @param monitor
+	 *
+	 * @throws CoreException if problems were encountered while scanning tags,
+	 *             the description may still be modified
+	 * @since 1.3.600
+	 */
+	public void scan(CompilationUnit[] sources, IApiDescription description, IApiTypeContainer container, Map<String, String> options, IProgressMonitor monitor) throws CoreException {
+		long start = System.currentTimeMillis();
+		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
+		Map<String, String> loptions = options == null ? JavaCore.getOptions() : new HashMap<>(options);
+		loptions.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		List<Callable<IApiDescription>> batches = new ArrayList<>();
+		for (int i = 0; i < sources.length; i += BATCH_SIZE) {
+			int from = i;
+			int to = Math.min(sources.length, i + BATCH_SIZE);
+			batches.add(() -> scanBatch(sources, from, to, container, loptions, localmonitor));
+		}
+		List<IApiDescription> results = new ArrayList<>(batches.size());
+		CoreException failure = null;
+		for (Future<IApiDescription> future : ForkJoinPool.commonPool().invokeAll(batches)) {
+			try {
+				results.add(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof OperationCanceledException canceled) {
+					throw canceled;
+				}
+				if (failure == null) {
+					failure = cause instanceof CoreException ce ? ce : new CoreException(Status.error(cause.getMessage(), cause));
+				}
+			}
+		}
+		localmonitor.split(1);
+		ApiDescriptionVisitor merger = new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations annotations) {
+				int restrictions = annotations.getRestrictions();
+				if (restrictions != RestrictionModifiers.NO_RESTRICTIONS) {
+					IApiAnnotations existing = description.resolveAnnotations(element);
+					if (existing != null) {
+						restrictions |= existing.getRestrictions();
+					}
+					description.setRestrictions(element, restrictions);
+				}
+				return true;
+			}
+		};
+		for (IApiDescription result : results) {
+			result.accept(merger, null);
+		}
+		localmonitor.split(1);
+		if (ApiPlugin.DEBUG_TAG_SCANNER) {
+			System.out.println("Tag scanning of " + sources.length + " compilation units in " + batches.size() + " batches took " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Scans the given range of sources into a new API description. Sources
+	 * backed by files are parsed together, the others one by one.
+	 */
+	private IApiDescription scanBatch(CompilationUnit[] sources, int from, int to, IApiTypeContainer container, Map<String, String> options, IProgressMonitor monitor) throws CoreException {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		IApiDescription description = new ApiDescription(null);
+		List<String> paths = new ArrayList<>(to - from);
+		List<String> encodings = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			String path = sources[i].getPath();
+			if (path == null) {
+				// the options are shared with the other batches
+				scan(sources[i], description, container, new HashMap<>(options), null);
+			} else {
+				paths.add(path);
+				encodings.add(sources[i].getEncoding());
+			}
+		}
+		if (!paths.isEmpty()) {
+			ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+			parser.setCompilerOptions(options);
+			parser.setEnvironment(new String[0], new String[0], null, false);
+			parser.createASTs(paths.toArray(new String[paths.size()]), encodings.toArray(new String[encodings.size()]), new String[0], new FileASTRequestor() {
+				@Override
+				public void acceptAST(String sourceFilePath, org.eclipse.jdt.core.dom.CompilationUnit ast) {
+					ast.accept(new Visitor(description, container));
+				}
+			}, null);
+		}
+		return description;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -38,6 +41,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiScope;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.search.BatchingSearchReporter;
 import org.eclipse.pde.api.tools.internal.search.SearchMessages;
 
 /**
@@ -118,6 +122,112 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Visitor used to collect the type roots of a component that are to be
+	 * searched concurrently. Containers and the component are filtered by the
+	 * requestor exactly like {@link ReferenceExtractor} does.
+	 */
+	static class TypeRootCollector extends ApiTypeContainerVisitor {
+		final List<IApiTypeRoot> typeroots = new ArrayList<>();
+		private final IApiSearchRequestor requestor;
+
+		TypeRootCollector(IApiSearchRequestor requestor) {
+			this.requestor = requestor;
+		}
+
+		@Override
+		public boolean visit(IApiComponent component) {
+			return requestor.acceptComponent(component);
+		}
+
+		@Override
+		public boolean visit(IApiTypeContainer container) {
+			return requestor.acceptContainer(container);
+		}
+
+		@Override
+		public void visit(String packageName, IApiTypeRoot typeroot) {
+			typeroots.add(typeroot);
+		}
+	}
+
+	/**
+	 * Work-stealing task searching a range of the type roots of a component.
+	 * Ranges larger than {@link #SHARD_SIZE} are split in half, smaller ones are
+	 * searched by the executing worker with its own reference collector.
+	 * References are extracted and resolved concurrently, while every call to
+	 * the requestor is made by one worker at a time as requestors are not
+	 * required to be thread safe.
+	 */
+	class SearchShard extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		static final int SHARD_SIZE = 16;
+		private final transient IApiSearchRequestor requestor;
+		private final transient IApiSearchReporter reporter;
+		private final transient IApiElement element;
+		private final transient List<IApiTypeRoot> typeroots;
+		private final int from;
+		private final int to;
+		private final transient IProgressMonitor monitor;
+
+		SearchShard(IApiSearchRequestor requestor, IApiSearchReporter reporter, IApiElement element, List<IApiTypeRoot> typeroots, int from, int to, IProgressMonitor monitor) {
+			this.requestor = requestor;
+			this.reporter = reporter;
+			this.element = element;
+			this.typeroots = typeroots;
+			this.from = from;
+			this.to = to;
+			this.monitor = monitor;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > SHARD_SIZE) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new SearchShard(requestor, reporter, element, typeroots, from, mid, monitor), new SearchShard(requestor, reporter, element, typeroots, mid, to, monitor));
+				return;
+			}
+			// the requestor may report progress or change the work of the
+			// monitor it is given, so give it a private one only forwarding
+			// cancellation
+			IProgressMonitor cancelmonitor = new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return monitor.isCanceled();
+				}
+			};
+			List<IReference> collector = new ArrayList<>();
+			for (int i = from; i < to && !monitor.isCanceled(); i++) {
+				try {
+					IApiType type = typeroots.get(i).getStructure();
+					if (type == null) {
+						continue;
+					}
+					int kinds;
+					synchronized (requestor) {
+						if (!requestor.acceptMember(type)) {
+							continue;
+						}
+						kinds = requestor.getReferenceKinds();
+					}
+					List<IReference> refs = getResolvedReferences(kinds, type, null);
+					synchronized (requestor) {
+						collector.addAll(acceptReferences(requestor, type, refs, cancelmonitor));
+					}
+				} catch (CoreException ce) {
+					ApiPlugin.log(ce);
+				}
+				if (collector.size() >= ReferenceExtractor.COLLECTOR_MAX) {
+					reporter.reportResults(element, collector.toArray(new IReference[collector.size()]));
+					collector.clear();
+				}
+			}
+			if (!collector.isEmpty()) {
+				reporter.reportResults(element, collector.toArray(new IReference[collector.size()]));
+			}
+		}
+	}
+
 	/**
 	 * Simple string used for reporting what is being searched
 	 */
@@ -130,9 +240,20 @@ public final class ApiSearchEngine {
 	 *         {@link IApiType}
 	 */
 	List<IReference> getResolvedReferences(IApiSearchRequestor requestor, IApiType type, IProgressMonitor monitor) throws CoreException {
+		return getResolvedReferences(requestor.getReferenceKinds(), type, monitor);
+	}
+
+	/**
+	 * Returns the set of resolved references of the given kinds for the given
+	 * {@link IApiType}, without calling any requestor
+	 *
+	 * @return The listing of resolved references from the given
+	 *         {@link IApiType}
+	 */
+	List<IReference> getResolvedReferences(int kinds, IApiType type, IProgressMonitor monitor) throws CoreException {
 		String name = type.getSimpleName() == null ? SearchMessages.ApiSearchEngine_anonymous_type : type.getSimpleName();
 		SubMonitor localmonitor = SubMonitor.convert(monitor, MessageFormat.format(SearchMessages.ApiSearchEngine_extracting_refs_from, name), 2);
-		List<IReference> refs = type.extractReferences(requestor.getReferenceKinds(), localmonitor.split(1));
+		List<IReference> refs = type.extractReferences(kinds, localmonitor.split(1));
 		ReferenceResolver.resolveReferences(refs);
 		return refs;
 	}
@@ -174,7 +295,7 @@ public final class ApiSearchEngine {
 	 * @return the collection of accepted {@link IReference}s or an empty list,
 	 *         never <code>null</code>
 	 */
-	private void searchReferences(IApiSearchRequestor requestor, IApiElement element, IApiSearchReporter reporter, IProgressMonitor monitor) throws CoreException {
+	private void searchReferences(IApiSearchRequestor requestor, IApiElement element, IApiSearchReporter reporter, ForkJoinPool pool, IProgressMonitor monitor) throws CoreException {
 		List<IReference> refs = null;
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 3);
 		switch (element.getType())
@@ -193,10 +314,14 @@ public final class ApiSearchEngine {
 				if (localmonitor.isCanceled()) {
 					reporter.reportResults(element, NO_REFERENCES);
 				}
-				ReferenceExtractor visitor = new ReferenceExtractor(requestor, reporter, element,
-						localmonitor.split(1));
 				IApiComponent comp = (IApiComponent) element;
-				comp.accept(visitor);
+				if (pool != null) {
+					searchComponent(requestor, comp, (BatchingSearchReporter) reporter, pool, localmonitor.split(1));
+				} else {
+					ReferenceExtractor visitor = new ReferenceExtractor(requestor, reporter, element,
+							localmonitor.split(1));
+					comp.accept(visitor);
+				}
 				comp.close();
 				localmonitor.split(1);
 				break;
@@ -223,6 +348,28 @@ public final class ApiSearchEngine {
 		localmonitor.split(1);
 	}
 
+	/**
+	 * Searches the type roots of the given component concurrently on the given
+	 * pool. The type roots are collected first, then sharded across the
+	 * workers of the pool.
+	 */
+	private void searchComponent(IApiSearchRequestor requestor, IApiComponent component, BatchingSearchReporter reporter, ForkJoinPool pool, IProgressMonitor monitor) throws CoreException {
+		TypeRootCollector collector = new TypeRootCollector(requestor);
+		component.accept(collector);
+		List<IApiTypeRoot> typeroots = collector.typeroots;
+		if (typeroots.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		pool.invoke(new SearchShard(requestor, reporter, component, typeroots, 0, typeroots.size(), SubMonitor.convert(monitor)));
+		reporter.flush();
+		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+			long time = System.currentTimeMillis() - start;
+			System.out.println("Searched " + typeroots.size() + " types of " + component.getSymbolicName() + " in " + time + " ms (" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (typeroots.size() * 1000 / Math.max(time, 1)) + " types/s)"); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Searches for all of the use of API or internal code from the given
 	 * {@link IApiComponent} within the given {@link IApiBaseline}
@@ -235,6 +382,31 @@ public final class ApiSearchEngine {
 	 * @throws CoreException if the search fails
 	 */
 	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, IProgressMonitor monitor) throws CoreException {
+		search(baseline, requestor, reporter, false, monitor);
+	}
+
+	/**
+	 * Searches for all of the use of API or internal code from the given
+	 * {@link IApiComponent} within the given {@link IApiBaseline}.
+	 * <p>
+	 * In parallel mode the types of each component are searched concurrently
+	 * on a work-stealing pool. Components are still searched one after the
+	 * other, the requestor is never called concurrently and the results are
+	 * handed to the reporter in batches from one thread at a time, so
+	 * requestors and reporters need not be thread safe. The order in which the
+	 * references of a component are reported is not defined.
+	 * </p>
+	 *
+	 * @param baseline the baseline to search within
+	 * @param requestor the requestor to use for the search
+	 * @param reporter the reporter to use when reporting any search results to
+	 *            the user
+	 * @param parallel whether the types of a component should be searched
+	 *            concurrently
+	 * @param monitor the monitor to report progress to
+	 * @throws CoreException if the search fails
+	 */
+	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, boolean parallel, IProgressMonitor monitor) throws CoreException {
 		if (baseline == null || reporter == null || requestor == null) {
 			return;
 		}
@@ -242,6 +414,21 @@ public final class ApiSearchEngine {
 		if (scope == null) {
 			return;
 		}
+		if (parallel) {
+			ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+			BatchingSearchReporter batching = new BatchingSearchReporter(reporter, ReferenceExtractor.COLLECTOR_MAX);
+			try {
+				doSearch(scope, requestor, batching, pool, monitor);
+			} finally {
+				batching.flush();
+				pool.shutdownNow();
+			}
+		} else {
+			doSearch(scope, requestor, reporter, null, monitor);
+		}
+	}
+
+	private void doSearch(IApiScope scope, IApiSearchRequestor requestor, IApiSearchReporter reporter, ForkJoinPool pool, IProgressMonitor monitor) throws CoreException {
 		AntFilterStore.filteredAPIProblems.clear();
 		fRequestorContext = computeContext(requestor);
 		IApiElement[] scopeelements = scope.getApiElements();
@@ -259,7 +446,7 @@ public final class ApiSearchEngine {
 					loopstart = System.currentTimeMillis();
 					System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
+				searchReferences(requestor, scopeelements[i], reporter, pool, localmonitor.split(1));
 				localmonitor.setTaskName(taskname);
 				if (localmonitor.isCanceled()) {
 					reporter.reportResults(scopeelements[i], NO_REFERENCES);
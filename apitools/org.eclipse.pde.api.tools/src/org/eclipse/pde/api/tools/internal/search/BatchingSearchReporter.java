@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
+import org.eclipse.pde.api.tools.internal.provisional.search.IMetadata;
+
+/**
+ * Thread safe {@link IApiSearchReporter} that collects the results reported by
+ * concurrent searches and hands them to a delegate reporter in batches. The
+ * delegate is only ever called by one thread at a time, so reporters that are
+ * not thread safe, like the {@link XmlSearchReporter}, can be used.
+ *
+ * @since 1.3.600
+ */
+public class BatchingSearchReporter implements IApiSearchReporter {
+
+	private final IApiSearchReporter fReporter;
+	private final int fBatchSize;
+
+	/**
+	 * Pending references per searched element, in the order the elements were
+	 * first reported
+	 */
+	private final Map<IApiElement, List<IReference>> fPending = new LinkedHashMap<>();
+	private int fPendingCount = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param reporter the reporter to delegate to
+	 * @param batchSize the number of pending references that triggers a flush
+	 *            to the delegate
+	 */
+	public BatchingSearchReporter(IApiSearchReporter reporter, int batchSize) {
+		fReporter = reporter;
+		fBatchSize = batchSize;
+	}
+
+	@Override
+	public synchronized void reportResults(IApiElement element, IReference[] references) {
+		if (references.length == 0) {
+			flush();
+			fReporter.reportResults(element, references);
+			return;
+		}
+		List<IReference> pending = fPending.computeIfAbsent(element, e -> new ArrayList<>());
+		Collections.addAll(pending, references);
+		fPendingCount += references.length;
+		if (fPendingCount >= fBatchSize) {
+			flush();
+		}
+	}
+
+	/**
+	 * Hands all pending references to the delegate reporter
+	 */
+	public synchronized void flush() {
+		for (Entry<IApiElement, List<IReference>> entry : fPending.entrySet()) {
+			List<IReference> refs = entry.getValue();
+			fReporter.reportResults(entry.getKey(), refs.toArray(new IReference[refs.size()]));
+		}
+		fPending.clear();
+		fPendingCount = 0;
+	}
+
+	@Override
+	public synchronized void reportNotSearched(IApiElement[] elements) {
+		flush();
+		fReporter.reportNotSearched(elements);
+	}
+
+	@Override
+	public synchronized void reportMetadata(IMetadata data) {
+		flush();
+		fReporter.reportMetadata(data);
+	}
+
+	@Override
+	public synchronized void reportCounts() {
+		flush();
+		fReporter.reportCounts();
+	}
+}
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.parsers.SAXParser;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Index of the report files of an archived API use scan. For each referenced
+ * component it records which report files reference each of its types, so that
+ * the references to some types can be read from the archive without parsing
+ * every report.
+ * <p>
+ * Report files are compressed archive entries that can only be read from their
+ * start, so the index records whole entries.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class UseScanIndex {
+
+	/**
+	 * Version of the persisted index
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Names of the indexed report files
+	 */
+	private final List<String> fEntries;
+
+	/**
+	 * Map of referenced component id to the map of referenced top level type
+	 * name to the positions in {@link #fEntries} of the report files
+	 * referencing it
+	 */
+	private final Map<String, Map<String, BitSet>> fIndex;
+
+	private UseScanIndex(List<String> entries, Map<String, Map<String, BitSet>> index) {
+		fEntries = entries;
+		fIndex = index;
+	}
+
+	/**
+	 * Handler collecting the top level types referenced by a report file
+	 */
+	static class TargetHandler extends DefaultHandler {
+		final Set<String> types = new HashSet<>();
+
+		@Override
+		public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
+			if (IApiXmlConstants.ELEMENT_TARGET.equals(name)) {
+				String type = attributes.getValue(IApiXmlConstants.ATTR_TYPE);
+				if (type != null) {
+					int idx = type.indexOf('$');
+					types.add(idx > -1 ? type.substring(0, idx) : type);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates the index of the given archived use scan by reading all of its
+	 * report files once.
+	 *
+	 * @param archive the archive containing the use scan
+	 * @param monitor progress monitor
+	 * @return the index, empty if the archive does not contain a use scan
+	 */
+	public static UseScanIndex create(ZipFile archive, IProgressMonitor monitor) throws Exception {
+		List<ZipEntry> reports = new ArrayList<>();
+		List<String> referees = new ArrayList<>();
+		archive.stream().forEach(entry -> {
+			if (!entry.isDirectory()) {
+				String[] segments = UseScanParser.getReportSegments(entry.getName());
+				if (segments != null) {
+					reports.add(entry);
+					referees.add(UseScanParser.splitIdVersion(segments[0])[0]);
+				}
+			}
+		});
+		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, reports.size());
+		@SuppressWarnings("restriction")
+		SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE();
+		List<String> entries = new ArrayList<>(reports.size());
+		Map<String, Map<String, BitSet>> index = new HashMap<>();
+		for (int i = 0; i < reports.size(); i++) {
+			ZipEntry entry = reports.get(i);
+			TargetHandler handler = new TargetHandler();
+			try (InputStream stream = archive.getInputStream(entry)) {
+				parser.parse(stream, handler);
+			} catch (SAXException | IOException e) {
+				ApiPlugin.log(e);
+			}
+			entries.add(entry.getName());
+			Map<String, BitSet> types = index.computeIfAbsent(referees.get(i), k -> new HashMap<>());
+			for (String type : handler.types) {
+				types.computeIfAbsent(type, k -> new BitSet()).set(i);
+			}
+			localmonitor.split(1);
+		}
+		return new UseScanIndex(entries, index);
+	}
+
+	/**
+	 * @return <code>true</code> if no report file was indexed
+	 */
+	public boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	/**
+	 * Returns the names of the report files referencing the given types of the
+	 * given component.
+	 *
+	 * @param componentId the id of the referenced component or
+	 *            <code>null</code> for all components
+	 * @param types the top level type names or <code>null</code> or empty for
+	 *            all types
+	 * @return the archive entry names of the report files, never
+	 *         <code>null</code>
+	 */
+	public Set<String> getEntries(String componentId, String[] types) {
+		Collection<Map<String, BitSet>> components;
+		if (componentId == null) {
+			components = fIndex.values();
+		} else {
+			Map<String, BitSet> component = fIndex.get(componentId);
+			if (component == null) {
+				return Set.of();
+			}
+			components = List.of(component);
+		}
+		BitSet positions = new BitSet();
+		for (Map<String, BitSet> component : components) {
+			if (types == null || types.length == 0) {
+				for (BitSet bits : component.values()) {
+					positions.or(bits);
+				}
+			} else {
+				for (String type : types) {
+					BitSet bits = component.get(type);
+					if (bits != null) {
+						positions.or(bits);
+					}
+				}
+			}
+		}
+		Set<String> entries = new HashSet<>();
+		for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+			entries.add(fEntries.get(i));
+		}
+		return entries;
+	}
+
+	/**
+	 * Writes the index to the given file
+	 *
+	 * @param file the file to write to
+	 */
+	public void write(File file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			out.writeInt(fEntries.size());
+			for (String entry : fEntries) {
+				out.writeUTF(entry);
+			}
+			out.writeInt(fIndex.size());
+			for (Entry<String, Map<String, BitSet>> component : fIndex.entrySet()) {
+				out.writeUTF(component.getKey());
+				out.writeInt(component.getValue().size());
+				for (Entry<String, BitSet> type : component.getValue().entrySet()) {
+					out.writeUTF(type.getKey());
+					long[] bits = type.getValue().toLongArray();
+					out.writeInt(bits.length);
+					for (long word : bits) {
+						out.writeLong(word);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads an index written with {@link #write(File)}
+	 *
+	 * @param file the file to read from
+	 * @return the index or <code>null</code> if it was written by another
+	 *         version
+	 */
+	public static UseScanIndex read(File file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return null;
+			}
+			int count = in.readInt();
+			List<String> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				entries.add(in.readUTF());
+			}
+			count = in.readInt();
+			Map<String, Map<String, BitSet>> index = new HashMap<>(count);
+			for (int i = 0; i < count; i++) {
+				String component = in.readUTF();
+				int size = in.readInt();
+				Map<String, BitSet> types = new HashMap<>(size);
+				for (int j = 0; j < size; j++) {
+					String type = in.readUTF();
+					long[] bits = new long[in.readInt()];
+					for (int k = 0; k < bits.length; k++) {
+						bits[k] = in.readLong();
+					}
+					types.put(type, BitSet.valueOf(bits));
+				}
+				index.put(component, types);
+			}
+			return new UseScanIndex(entries, index);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
@@ -31,9 +35,10 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.jdt.internal.core.util.ILRUCacheable;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.pde.api.tools.internal.StripedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.FileManager;
@@ -55,40 +60,47 @@ public class UseScanManager {
 	 */
 	public static final Pattern NAME_REGEX = Pattern.compile("^.* \\(.*\\)$"); //$NON-NLS-1$
 	/**
-	 * Number of entries to cache in the {@link UseScanCache}
+	 * Number of bytes of references to cache in the {@link UseScanCache}
 	 */
-	public static final int DEFAULT_CACHE_SIZE = 1000;
+	public static final int DEFAULT_CACHE_SIZE = 64 * 1024 * 1024;
+	/**
+	 * File extension of the persisted use scan indexes
+	 */
+	private static final String INDEX_EXTENSION = ".index"; //$NON-NLS-1$
 
 	/**
 	 * Cache to maintain the list of least recently used
-	 * <code>UseScanReferences</code>
+	 * <code>UseScanReferences</code>, weighted by their size in bytes
 	 */
-	private static class UseScanCache extends SynchronizedOverflowingLRUCache<IApiComponent, IReferenceCollection> {
+	private static class UseScanCache extends StripedOverflowingLRUCache<IApiComponent, IReferenceCollection> {
 
 		public UseScanCache(int size) {
-			super(size);
+			super(size, 0, true);
 		}
 
-		public UseScanCache(int size, int overflow) {
-			super(size, overflow);
+		@Override
+		protected int spaceFor(IReferenceCollection references) {
+			if (references instanceof ILRUCacheable cacheable) {
+				return cacheable.getCacheFootprint();
+			}
+			return 1;
 		}
 
 		@Override
-		protected boolean close(LRUCacheEntry<IApiComponent, IReferenceCollection> entry) {
-			IReferenceCollection references = entry.value;
+		protected boolean close(IApiComponent key, IReferenceCollection references) {
 			references.clear();
 			return true;
 		}
 
-		@Override
-		protected UseScanCache newInstance(int size, int newOverflow) {
-			return new UseScanCache(size, newOverflow);
-		}
-
 	}
 
 	private String[] fLocations = null;
 
+	/**
+	 * Indexes of the archived use scans by archive path and modification time
+	 */
+	private final Map<String, UseScanIndex> fIndexes = new ConcurrentHashMap<>();
+
 	/**
 	 * {@link FileFilter} for finding use scan directories
 	 */
@@ -169,7 +181,6 @@ public class UseScanManager {
 				locations = fLocations;
 			}
 			if (locations != null) {
-				IStringVariableManager stringManager = null;
 				localmonitor.setWorkRemaining(locations.length);
 				for (int i = 0; i < locations.length; i++) {
 					SubMonitor iterationMonitor = localmonitor.split(1);
@@ -179,37 +190,14 @@ public class UseScanManager {
 					}
 					if (file.isFile()) {
 						if (Util.isArchive(file.getName())) {
-							String destDirPath = tempLocation + file.getName() + '.' + file.getAbsolutePath().hashCode();
-							if (stringManager == null) {
-								stringManager = VariablesPlugin.getDefault().getStringVariableManager();
-							}
-							destDirPath = stringManager.performStringSubstitution(destDirPath);
-							locations[i] = destDirPath + '/' + file.lastModified();
-							File unzipDirLoc = new File(destDirPath);
-							if (unzipDirLoc.exists()) {
-								String[] childDirs = unzipDirLoc.list();
-								for (String childDir : childDirs) {
-									if (!childDir.equals(String.valueOf(file.lastModified()))) {
-										FileManager.getManager().recordTempFileRoot(destDirPath + '/' + childDir);
-									}
-								}
-							} else {
-								Util.unzip(file.getPath(), locations[i]);
-							}
-						} else {
-							continue;
+							fetchFromArchive(file, apiComponent, types, parser, visitor, iterationMonitor);
 						}
+						continue;
 					}
 					try {
 						locations[i] = getExactScanLocation(locations[i]);
 						if (locations[i] == null) {
-							String message;
-							if (file.isDirectory()) {
-								message = NLS.bind(SearchMessages.UseScanManager_InvalidDir, file.getAbsolutePath());
-							} else {
-								message = NLS.bind(SearchMessages.UseScanManager_InvalidArchive, file.getAbsolutePath());
-							}
-							throw new Exception(message);
+							throw new Exception(NLS.bind(SearchMessages.UseScanManager_InvalidDir, file.getAbsolutePath()));
 						}
 						parser.parse(locations[i], iterationMonitor, visitor);
 					} catch (Exception e) {
@@ -229,6 +217,84 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Fetches the references from an archived API Use Scan. The archive is
+	 * read in place, only the report files referencing the requested types
+	 * according to the index of the scan are parsed.
+	 */
+	private void fetchFromArchive(File file, IApiComponent apiComponent, String[] types, UseScanParser parser, UseScanVisitor visitor, IProgressMonitor monitor) {
+		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
+		try (ZipFile archive = new ZipFile(file)) {
+			UseScanIndex index = getIndex(file, archive, localmonitor.split(1));
+			if (index.isEmpty()) {
+				throw new Exception(NLS.bind(SearchMessages.UseScanManager_InvalidArchive, file.getAbsolutePath()));
+			}
+			Set<String> entries = index.getEntries(apiComponent == null ? null : apiComponent.getSymbolicName(), types);
+			if (!entries.isEmpty()) {
+				parser.parse(archive, entries, localmonitor.split(1), visitor);
+			}
+		} catch (Exception e) {
+			ApiPlugin.log(e); // log the exception and continue with next
+								// location
+		}
+	}
+
+	/**
+	 * Returns the index of the given archived API Use Scan. The index is kept
+	 * in memory and persisted in the state location of the plug-in, it is
+	 * created if the archive has changed since it was indexed.
+	 */
+	private UseScanIndex getIndex(File file, ZipFile archive, IProgressMonitor monitor) throws Exception {
+		String key = file.getAbsolutePath() + '.' + file.lastModified();
+		UseScanIndex index = fIndexes.get(key);
+		if (index != null) {
+			return index;
+		}
+		File indexFile = getIndexFile(file);
+		if (indexFile.isFile()) {
+			try {
+				index = UseScanIndex.read(indexFile);
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
+		}
+		if (index == null) {
+			index = UseScanIndex.create(archive, monitor);
+			try {
+				index.write(indexFile);
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
+		}
+		fIndexes.put(key, index);
+		return index;
+	}
+
+	/**
+	 * Returns the file storing the index of the given archived API Use Scan.
+	 * Index files of former versions of the archive, and scans extracted by
+	 * previous releases, are recorded for deletion.
+	 */
+	private File getIndexFile(File file) throws CoreException {
+		IStringVariableManager stringManager = VariablesPlugin.getDefault().getStringVariableManager();
+		String indexDirPath = stringManager.performStringSubstitution(tempLocation + file.getName() + '.' + file.getAbsolutePath().hashCode());
+		String indexName = file.lastModified() + INDEX_EXTENSION;
+		File indexDir = new File(indexDirPath);
+		if (indexDir.exists()) {
+			String[] children = indexDir.list();
+			if (children != null) {
+				for (String child : children) {
+					if (!child.equals(indexName)) {
+						FileManager.getManager().recordTempFileRoot(indexDirPath + '/' + child);
+					}
+				}
+			}
+		} else {
+			indexDir.mkdirs();
+		}
+		return new File(indexDir, indexName);
+	}
+
 	/**
 	 * Returns the scan
 	 */
@@ -369,7 +435,8 @@ public class UseScanManager {
 	/**
 	 * Sets the cache size
 	 *
-	 * @param size The total number of references that can be held in memory
+	 * @param size The total size in bytes of the references that can be held
+	 *            in memory
 	 */
 	public void setCacheSize(int size) {
 		fApiComponentCache.setSpaceLimit(size);
@@ -384,5 +451,6 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		fIndexes.clear();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import javax.xml.parsers.SAXParser;
 
@@ -83,6 +90,18 @@ public class UseScanParser {
 	}
 
 	protected String[] getIdVersion(String value) {
+		return splitIdVersion(value);
+	}
+
+	/**
+	 * Splits the name of a use scan component directory of the form
+	 * <code>id (version)</code>
+	 *
+	 * @param value the directory name
+	 * @return the id and the version, which is <code>null</code> if the name
+	 *         has none
+	 */
+	static String[] splitIdVersion(String value) {
 		int index = value.indexOf(' ');
 		if (index > 0) {
 			String id = value.substring(0, index);
@@ -296,6 +315,95 @@ public class UseScanParser {
 		}
 	}
 
+	/**
+	 * Resolves references from an API use scan stored in the given archive,
+	 * reading the report files from the archive without extracting them.
+	 *
+	 * @param archive the archive containing the API use scan
+	 * @param entryNames the names of the report files to read or
+	 *            <code>null</code> to read all of them
+	 * @param monitor progress monitor
+	 * @param usv the visitor
+	 */
+	public void parse(ZipFile archive, Set<String> entryNames, IProgressMonitor monitor, UseScanVisitor usv) throws Exception {
+		visitor = usv;
+		// referee directory -> origin directory -> report files
+		Map<String, Map<String, List<ZipEntry>>> reports = new TreeMap<>();
+		archive.stream().forEach(entry -> {
+			if (entry.isDirectory() || (entryNames != null && !entryNames.contains(entry.getName()))) {
+				return;
+			}
+			String[] segments = getReportSegments(entry.getName());
+			if (segments != null) {
+				reports.computeIfAbsent(segments[0], k -> new TreeMap<>()).computeIfAbsent(segments[1], k -> new ArrayList<>()).add(entry);
+			}
+		});
+		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, reports.size());
+		visitor.visitScan();
+		try {
+			@SuppressWarnings("restriction")
+			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
+					.createSAXParserWithErrorOnDOCTYPE();
+			for (Entry<String, Map<String, List<ZipEntry>>> referee : reports.entrySet()) {
+				String[] idv = getIdVersion(referee.getKey());
+				enterTargetComponent(Factory.componentDescriptor(idv[0], idv[1]));
+				if (visitReferencingComponent) {
+					for (Entry<String, List<ZipEntry>> origin : referee.getValue().entrySet()) {
+						idv = getIdVersion(origin.getKey());
+						enterReferencingComponent(Factory.componentDescriptor(idv[0], idv[1]));
+						if (visitMembers) {
+							localmonitor.subTask(NLS.bind(SearchMessages.UseScanParser_analyzing_references, new String[] { origin.getKey() }));
+							List<ZipEntry> xmlentries = origin.getValue();
+							// sort to visit in the same order as extracted scans
+							xmlentries.sort(Comparator.comparing((ZipEntry entry) -> getFileName(entry.getName())).thenComparing(ZipEntry::getName));
+							for (ZipEntry xmlentry : xmlentries) {
+								ReferenceHandler handler = new ReferenceHandler(getTypeFromFileName(getFileName(xmlentry.getName())));
+								try (InputStream inputFile = archive.getInputStream(xmlentry)) {
+									parser.parse(inputFile, handler);
+								} catch (SAXException | IOException e) {
+									ApiPlugin.log(e);
+								}
+							}
+							endMember();
+						}
+						endReferencingComponent();
+					}
+				}
+				localmonitor.split(1);
+				endComponent();
+			}
+		} finally {
+			visitor.endVisitScan();
+		}
+	}
+
+	/**
+	 * Returns the names of the referee and origin directories of the given
+	 * report file of an archived use scan. The referee directory is the first
+	 * directory named like a component directly containing another one, so
+	 * that the scan may be at the root of the archive or in any sub directory.
+	 *
+	 * @param entryName the name of an archive entry
+	 * @return the referee and origin directory names or <code>null</code> if
+	 *         the entry is not a report file
+	 */
+	static String[] getReportSegments(String entryName) {
+		if (!entryName.endsWith(".xml")) { //$NON-NLS-1$
+			return null;
+		}
+		String[] segments = entryName.split("/"); //$NON-NLS-1$
+		for (int i = 0; i < segments.length - 2; i++) {
+			if (UseScanManager.NAME_REGEX.matcher(segments[i]).matches() && UseScanManager.NAME_REGEX.matcher(segments[i + 1]).matches()) {
+				return new String[] { segments[i], segments[i + 1] };
+			}
+		}
+		return null;
+	}
+
+	private static String getFileName(String entryName) {
+		return entryName.substring(entryName.lastIndexOf('/') + 1);
+	}
+
 	/**
 	 * @return the referencingComponent or <code>null</code>
 	 */
@@ -344,10 +452,14 @@ public class UseScanParser {
 	 * @return the type from the file name
 	 */
 	private int getTypeFromFileName(File xmlfile) {
-		if (xmlfile.getName().indexOf(XmlReferenceDescriptorWriter.TYPE_REFERENCES) > -1) {
+		return getTypeFromFileName(xmlfile.getName());
+	}
+
+	static int getTypeFromFileName(String name) {
+		if (name.indexOf(XmlReferenceDescriptorWriter.TYPE_REFERENCES) > -1) {
 			return IReference.T_TYPE_REFERENCE;
 		}
-		if (xmlfile.getName().indexOf(XmlReferenceDescriptorWriter.METHOD_REFERENCES) > -1) {
+		if (name.indexOf(XmlReferenceDescriptorWriter.METHOD_REFERENCES) > -1) {
 			return IReference.T_METHOD_REFERENCE;
 		}
 		return IReference.T_FIELD_REFERENCE;
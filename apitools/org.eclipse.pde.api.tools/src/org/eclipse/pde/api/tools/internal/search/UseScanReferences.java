@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,41 +14,222 @@
 package org.eclipse.pde.api.tools.internal.search;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.internal.core.util.ILRUCacheable;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
 
 /**
  * This class is used by
  * {@link org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent}
  * for storing its references
+ * <p>
+ * References are not kept as descriptor objects but as rows of int columns:
+ * the member and component descriptors and the problem messages are interned
+ * in a dictionary and referred to by their id, the other attributes are kept
+ * as is. Descriptors are created again when the references are requested. The
+ * footprint of the collection is its estimated size in bytes.
+ * </p>
  */
 public class UseScanReferences implements ILRUCacheable, IReferenceCollection {
 
-	Map<String, List<IReferenceDescriptor>> fReferencesMap;
+	/**
+	 * Estimated size in bytes of a dictionary entry, including the interned
+	 * object and its map entries
+	 */
+	static final int DICTIONARY_ENTRY_BYTES = 112;
+
+	/**
+	 * Estimated size in bytes of the entry and list of a referenced type,
+	 * without the row ids
+	 */
+	static final int TYPE_ENTRY_BYTES = 96;
+
+	private static final int TYPE = 0;
+	private static final int ORIGIN = 1;
+	private static final int TARGET = 2;
+	private static final int FROM = 3;
+	private static final int TO = 4;
+	private static final int LINE = 5;
+	private static final int KIND = 6;
+	private static final int VISIBILITY = 7;
+	private static final int FLAGS = 8;
+	private static final int MESSAGES = 9;
+	private static final int COLUMNS = 10;
+
+	/**
+	 * Number of columns identifying a reference, the flags and messages are not
+	 * compared like in {@link ReferenceDescriptor#equals(Object)}
+	 */
+	private static final int KEY_COLUMNS = FLAGS;
+
+	/**
+	 * Growable list of row ids
+	 */
+	private static final class IntList {
+		int[] values = new int[4];
+		int size = 0;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+	}
+
+	/**
+	 * Interned objects by id
+	 */
+	private final List<Object> fDictionary = new ArrayList<>();
+
+	/**
+	 * Ids of the interned objects
+	 */
+	private final Map<Object, Integer> fIds = new HashMap<>();
+
+	/**
+	 * The columns of the references, indexed by row
+	 */
+	private final int[][] fColumns = new int[COLUMNS][];
+
+	/**
+	 * Number of references
+	 */
+	private int fSize = 0;
+
+	/**
+	 * Open addressing hash table of the row ids plus one, used to detect
+	 * duplicate references
+	 */
+	private int[] fTable;
+
+	/**
+	 * Rows of the references by referenced type
+	 */
+	private final Map<String, IntList> fReferencesMap = new LinkedHashMap<>();
 
 	public UseScanReferences() {
-		fReferencesMap = new LinkedHashMap<>();
+		init();
+	}
+
+	private void init() {
+		for (int i = 0; i < COLUMNS; i++) {
+			fColumns[i] = new int[16];
+		}
+		fTable = new int[32];
+		fSize = 0;
 	}
 
 	@Override
 	public void add(String type, IReferenceDescriptor refDesc) {
-		List<IReferenceDescriptor> refDescList = fReferencesMap.get(type);
-		if (refDescList == null) {
-			refDescList = new ArrayList<>();
-			fReferencesMap.put(type, refDescList);
+		int row = fSize;
+		if (row == fColumns[0].length) {
+			for (int i = 0; i < COLUMNS; i++) {
+				fColumns[i] = Arrays.copyOf(fColumns[i], row * 2);
+			}
+		}
+		fColumns[TYPE][row] = intern(type);
+		fColumns[ORIGIN][row] = intern(refDesc.getMember());
+		fColumns[TARGET][row] = intern(refDesc.getReferencedMember());
+		fColumns[FROM][row] = intern(refDesc.getComponent());
+		fColumns[TO][row] = intern(refDesc.getReferencedComponent());
+		fColumns[LINE][row] = refDesc.getLineNumber();
+		fColumns[KIND][row] = refDesc.getReferenceKind();
+		fColumns[VISIBILITY][row] = refDesc.getVisibility();
+		fColumns[FLAGS][row] = refDesc.getReferenceFlags();
+		String[] messages = refDesc.getProblemMessages();
+		fColumns[MESSAGES][row] = messages == null ? -1 : intern(Arrays.asList(messages));
+		if (!insert(row)) {
+			// already known
+			return;
+		}
+		fSize++;
+		fReferencesMap.computeIfAbsent(type, k -> new IntList()).add(row);
+	}
+
+	private int intern(Object value) {
+		Integer id = fIds.get(value);
+		if (id == null) {
+			id = Integer.valueOf(fDictionary.size());
+			fDictionary.add(value);
+			fIds.put(value, id);
 		}
-		if (!refDescList.contains(refDesc)) {
-			refDescList.add(refDesc);
+		return id.intValue();
+	}
+
+	private int hash(int row) {
+		int hash = 0;
+		for (int i = 0; i < KEY_COLUMNS; i++) {
+			hash = 31 * hash + fColumns[i][row];
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private boolean sameKey(int row1, int row2) {
+		for (int i = 0; i < KEY_COLUMNS; i++) {
+			if (fColumns[i][row1] != fColumns[i][row2]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the given row to the hash table unless an identical reference is
+	 * already in it
+	 *
+	 * @return <code>true</code> if the row was added
+	 */
+	private boolean insert(int row) {
+		if ((fSize + 1) * 2 > fTable.length) {
+			int[] table = new int[fTable.length * 2];
+			for (int i = 0; i < fSize; i++) {
+				int slot = hash(i) & (table.length - 1);
+				while (table[slot] != 0) {
+					slot = (slot + 1) & (table.length - 1);
+				}
+				table[slot] = i + 1;
+			}
+			fTable = table;
+		}
+		int slot = hash(row) & (fTable.length - 1);
+		while (fTable[slot] != 0) {
+			if (sameKey(fTable[slot] - 1, row)) {
+				return false;
+			}
+			slot = (slot + 1) & (fTable.length - 1);
+		}
+		fTable[slot] = row + 1;
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private IReferenceDescriptor getDescriptor(int row) {
+		int messages = fColumns[MESSAGES][row];
+		return new ReferenceDescriptor((IComponentDescriptor) fDictionary.get(fColumns[FROM][row]),
+				(IMemberDescriptor) fDictionary.get(fColumns[ORIGIN][row]), fColumns[LINE][row],
+				(IComponentDescriptor) fDictionary.get(fColumns[TO][row]),
+				(IMemberDescriptor) fDictionary.get(fColumns[TARGET][row]), fColumns[KIND][row], fColumns[FLAGS][row],
+				fColumns[VISIBILITY][row],
+				messages == -1 ? null : ((List<String>) fDictionary.get(messages)).toArray(new String[0]));
+	}
+
+	private void addDescriptors(IntList rows, List<IReferenceDescriptor> descriptors) {
+		for (int i = 0; i < rows.size; i++) {
+			descriptors.add(getDescriptor(rows.values[i]));
 		}
 	}
 
 	@Override
 	public boolean hasReferencesTo(String type) {
-		List<IReferenceDescriptor> refDescList = fReferencesMap.get(type);
-		return refDescList != null && refDescList.size() > 0;
+		IntList rows = fReferencesMap.get(type);
+		return rows != null && rows.size > 0;
 	}
 
 	@Override
@@ -59,11 +240,10 @@ public class UseScanReferences implements ILRUCacheable, IReferenceCollection {
 
 		List<IReferenceDescriptor> referenceDescriptorList = new ArrayList<>();
 		for (String type : types) {
-			List<IReferenceDescriptor> refDescs = fReferencesMap.get(type);
-			if (refDescs == null || refDescs.isEmpty()) {
-				continue;
+			IntList rows = fReferencesMap.get(type);
+			if (rows != null) {
+				addDescriptors(rows, referenceDescriptorList);
 			}
-			referenceDescriptorList.addAll(refDescs);
 		}
 
 		return referenceDescriptorList.toArray(new IReferenceDescriptor[referenceDescriptorList.size()]);
@@ -71,20 +251,45 @@ public class UseScanReferences implements ILRUCacheable, IReferenceCollection {
 
 	@Override
 	public IReferenceDescriptor[] getAllExternalDependencies() {
-		List<IReferenceDescriptor> allRefDescs = new ArrayList<>();
-		for (List<IReferenceDescriptor> refDescList : fReferencesMap.values()) {
-			allRefDescs.addAll(refDescList);
+		List<IReferenceDescriptor> allRefDescs = new ArrayList<>(fSize);
+		for (IntList rows : fReferencesMap.values()) {
+			addDescriptors(rows, allRefDescs);
 		}
 		return allRefDescs.toArray(new IReferenceDescriptor[allRefDescs.size()]);
 	}
 
+	/**
+	 * @return the number of references in the collection
+	 */
+	public int size() {
+		return fSize;
+	}
+
+	/**
+	 * Returns the estimated size of this collection in bytes
+	 *
+	 * @return the size in bytes
+	 */
+	public long getSizeInBytes() {
+		long bytes = (long) fColumns[0].length * COLUMNS * Integer.BYTES;
+		bytes += (long) fTable.length * Integer.BYTES;
+		bytes += (long) fDictionary.size() * DICTIONARY_ENTRY_BYTES;
+		for (IntList rows : fReferencesMap.values()) {
+			bytes += TYPE_ENTRY_BYTES + (long) rows.values.length * Integer.BYTES;
+		}
+		return bytes;
+	}
+
 	@Override
 	public int getCacheFootprint() {
-		return fReferencesMap.size();
+		return (int) Math.min(Integer.MAX_VALUE, getSizeInBytes());
 	}
 
 	@Override
 	public void clear() {
 		fReferencesMap.clear();
+		fDictionary.clear();
+		fIds.clear();
+		init();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,11 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * If the types of each component should be searched concurrently
+	 */
+	private boolean parallel = false;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -212,6 +217,21 @@ public final class ApiUseTask extends CommonUtilsTask {
 		this.considerapi = Boolean.toString(true).equals(considerapi);
 	}
 
+	/**
+	 * Sets if the types of each component should be searched concurrently.
+	 * <p>
+	 * The possible values are: <code>true</code>, <code>false</code>
+	 * </p>
+	 * <p>
+	 * Default is <code>false</code>.
+	 * </p>
+	 *
+	 * @param parallel the given value
+	 */
+	public void setParallel(String parallel) {
+		this.parallel = Boolean.toString(true).equals(parallel);
+	}
+
 	/**
 	 * Sets if illegal API use should be considered in the search.
 	 * <p>
@@ -319,7 +339,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
-			engine.search(baseline, requestor, reporter, null);
+			engine.search(baseline, requestor, reporter, this.parallel, null);
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
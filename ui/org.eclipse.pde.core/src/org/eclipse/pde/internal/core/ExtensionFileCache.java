@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Cache of the extension files (plugin.xml or fragment.xml) of archived
+ * bundles. The extension file of each archive is kept in a file of its own in
+ * the cache directory, so creating the extension registry after a target
+ * reload or a restart does not open the archives that did not change since
+ * they were last read. The extension files are still parsed by the registry.
+ * An archive is identified by its location, its length and its modification
+ * stamp. Archives without an extension file are recorded as well, they are not
+ * opened again either.
+ * <p>
+ * There is a single cache per workspace, see
+ * {@link PDECore#getExtensionFileCache()}.
+ * </p>
+ */
+public class ExtensionFileCache {
+
+	private static final String INDEX_FILE = "index"; //$NON-NLS-1$
+	private static final String FILE_EXTENSION = ".xml"; //$NON-NLS-1$
+	private static final int VERSION = 1;
+
+	/**
+	 * Marker of an archive without extension file
+	 */
+	private static final int NO_FILE = -1;
+
+	/**
+	 * The cached extension file of an archive
+	 *
+	 * @param length the length of the archive
+	 * @param lastModified the modification stamp of the archive
+	 * @param descriptor the name of the extension file in the archive
+	 * @param file the number of the cache file holding the extension file, or
+	 *            {@link #NO_FILE}
+	 */
+	private record CachedFile(long length, long lastModified, String descriptor, int file) {
+		boolean isCurrent(File archive, String name) {
+			return archive.length() == length && archive.lastModified() == lastModified && descriptor.equals(name);
+		}
+	}
+
+	private final File fDirectory;
+
+	/**
+	 * Cached extension files by absolute archive path
+	 */
+	private final Map<String, CachedFile> fCachedFiles = new ConcurrentHashMap<>();
+	private final AtomicInteger fNextFile = new AtomicInteger();
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+	private boolean fLoaded = false;
+	private boolean fDirty = false;
+
+	/**
+	 * @param directory the directory the cache is kept in
+	 */
+	public ExtensionFileCache(File directory) {
+		fDirectory = directory;
+	}
+
+	/**
+	 * Returns the content of the given extension file of the given archive.
+	 * The archive is only opened if it changed since it was last read.
+	 *
+	 * @param archive the archive of a bundle
+	 * @param descriptor the name of the extension file in the archive
+	 * @return the content of the extension file or <code>null</code> if the
+	 *         archive has no such file
+	 * @throws IOException if the archive cannot be read
+	 */
+	public byte[] getExtensionFile(File archive, String descriptor) throws IOException {
+		load();
+		String location = archive.getAbsolutePath();
+		CachedFile cached = fCachedFiles.get(location);
+		if (cached != null && cached.isCurrent(archive, descriptor)) {
+			if (cached.file() == NO_FILE) {
+				fHits.incrementAndGet();
+				return null;
+			}
+			try {
+				byte[] contents = Files.readAllBytes(getFile(cached.file()).toPath());
+				fHits.incrementAndGet();
+				return contents;
+			} catch (IOException e) {
+				// the cache file is gone, read the archive again
+			}
+		}
+		fMisses.incrementAndGet();
+		long length = archive.length();
+		long lastModified = archive.lastModified();
+		byte[] contents = null;
+		try (ZipFile zip = new ZipFile(archive, ZipFile.OPEN_READ)) {
+			ZipEntry entry = zip.getEntry(descriptor);
+			if (entry != null) {
+				try (InputStream is = zip.getInputStream(entry)) {
+					if (is != null) {
+						contents = is.readAllBytes();
+					}
+				}
+			}
+		}
+		store(location, new CachedFile(length, lastModified, descriptor, NO_FILE), cached, contents);
+		return contents;
+	}
+
+	/**
+	 * @return number of extension files read from the cache since creation
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return number of archives that had to be opened since creation
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * Writes the cache file of an archive and records it. Exclusive with
+	 * {@link #save()}, which deletes the cache files it does not know of.
+	 */
+	private synchronized void store(String location, CachedFile entry, CachedFile previous, byte[] contents) {
+		if (contents != null) {
+			int file = previous != null && previous.file() != NO_FILE ? previous.file() : fNextFile.getAndIncrement();
+			try {
+				fDirectory.mkdirs();
+				Files.write(getFile(file).toPath(), contents);
+			} catch (IOException e) {
+				// not cached, the archive will be read again next time
+				return;
+			}
+			entry = new CachedFile(entry.length(), entry.lastModified(), entry.descriptor(), file);
+		}
+		fCachedFiles.put(location, entry);
+		fDirty = true;
+	}
+
+	private File getFile(int file) {
+		return new File(fDirectory, file + FILE_EXTENSION);
+	}
+
+	private synchronized void load() {
+		if (fLoaded) {
+			return;
+		}
+		fLoaded = true;
+		File index = new File(fDirectory, INDEX_FILE);
+		if (!index.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(index)))) {
+			if (in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			int next = 0;
+			for (int i = 0; i < count; i++) {
+				String location = in.readUTF();
+				CachedFile cached = new CachedFile(in.readLong(), in.readLong(), in.readUTF(), in.readInt());
+				fCachedFiles.putIfAbsent(location, cached);
+				next = Math.max(next, cached.file() + 1);
+			}
+			fNextFile.set(Math.max(fNextFile.get(), next));
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Writes the index of the cache if it has changed. Archives that no longer
+	 * exist are dropped from the cache, along with their cache files.
+	 */
+	public synchronized void save() {
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Extension files of " + fHits.get() + " archives read from the cache, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ fMisses.get() + " archives read"); //$NON-NLS-1$
+		}
+		if (!fDirty) {
+			return;
+		}
+		fCachedFiles.keySet().removeIf(location -> !new File(location).isFile());
+		Set<String> files = new HashSet<>();
+		File index = new File(fDirectory, INDEX_FILE);
+		fDirectory.mkdirs();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(index)))) {
+			out.writeInt(VERSION);
+			out.writeInt(fCachedFiles.size());
+			for (Map.Entry<String, CachedFile> entry : fCachedFiles.entrySet()) {
+				CachedFile cached = entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeLong(cached.length());
+				out.writeLong(cached.lastModified());
+				out.writeUTF(cached.descriptor());
+				out.writeInt(cached.file());
+				if (cached.file() != NO_FILE) {
+					files.add(getFile(cached.file()).getName());
+				}
+			}
+		} catch (IOException e) {
+			PDECore.log(e);
+			return;
+		}
+		File[] cached = fDirectory.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION) && !files.contains(name));
+		if (cached != null) {
+			for (File file : cached) {
+				file.delete();
+			}
+		}
+		fDirty = false;
+	}
+
+}
@@ -374,4 +374,11 @@ public interface ICoreConstants {
 	// default value for
 	String TEST_PLUGIN_PATTERN_DEFAULTVALUE = "[.]test[s]?$|[.]tests[.]"; //$NON-NLS-1$
 
+	/**
+	 * Integer preference for the number of threads reading target bundle
+	 * manifests in parallel when the target state is created. A value less
+	 * than one uses one thread per available processor.
+	 */
+	String TARGET_STATE_READER_THREADS = "target_state_reader_threads"; //$NON-NLS-1$
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.util.Arrays;
@@ -175,6 +176,9 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	// Schema registry
 	private SchemaRegistry fSchemaRegistry;
 
+	// Extension files of archived bundles, shared by all extension registries
+	private ExtensionFileCache fExtensionFileCache;
+
 	private SourceLocationManager fSourceLocationManager;
 	private JavadocLocationManager fJavadocLocationManager;
 	private SearchablePluginsManager fSearchablePluginsManager;
@@ -273,6 +277,13 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fExtensionRegistry;
 	}
 
+	synchronized ExtensionFileCache getExtensionFileCache() {
+		if (fExtensionFileCache == null) {
+			fExtensionFileCache = new ExtensionFileCache(new File(getStateLocation().toFile(), ".extensionfiles")); //$NON-NLS-1$
+		}
+		return fExtensionFileCache;
+	}
+
 	public synchronized SourceLocationManager getSourceLocationManager() {
 		if (fSourceLocationManager == null) {
 			fSourceLocationManager = new SourceLocationManager();
@@ -409,6 +420,10 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fExtensionRegistry.stop();
 			fExtensionRegistry = null;
 		}
+		if (fExtensionFileCache != null) {
+			fExtensionFileCache.save();
+			fExtensionFileCache = null;
+		}
 
 		PluginModelManager.shutdownInstance();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,14 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
@@ -50,6 +56,18 @@ public class PDEExtensionRegistry {
 
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
+	/**
+	 * Contributing plug-ins by extension point id, enabled or not, see
+	 * {@link #extensionPointsChanged(Collection)}
+	 */
+	private final Map<String, IPluginModelBase[]> fExtensionPlugins = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented each time contributions change, so that plug-ins computed
+	 * concurrently to a change are not indexed
+	 */
+	private final AtomicLong fIndexStamp = new AtomicLong();
+
 	public PDEExtensionRegistry() {
 		if (fStrategy == null) {
 			File extensionsDir = new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR);
@@ -112,31 +130,113 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		clearExtensionPlugins();
+		// keep the extension files read so far, unchanged bundles of the new target are not read again
+		PDECore.getDefault().getExtensionFileCache().save();
 	}
 
 	// dispose of registry without writing contents.
 	public void dispose() {
 		fStrategy.dispose();
 		fRegistry = null;
+		clearExtensionPlugins();
+	}
+
+	private void clearExtensionPlugins() {
+		extensionPointsChanged(null);
+	}
+
+	/**
+	 * Returns the ids of the extension points the given contributor
+	 * contributes extensions to or declares.
+	 *
+	 * @param registry the registry
+	 * @param contributor the contributor
+	 * @return the extension point ids, or <code>null</code> if no extension
+	 *         point is indexed yet
+	 */
+	Collection<String> getExtensionPointIds(IExtensionRegistry registry, IContributor contributor) {
+		if (fExtensionPlugins.isEmpty()) {
+			// whatever gets indexed meanwhile is dropped by extensionPointsChanged(null)
+			return null;
+		}
+		Set<String> ids = new HashSet<>();
+		for (IExtension extension : registry.getExtensions(contributor)) {
+			ids.add(extension.getExtensionPointUniqueIdentifier());
+		}
+		for (IExtensionPoint point : registry.getExtensionPoints(contributor)) {
+			ids.add(point.getUniqueIdentifier());
+		}
+		return ids;
+	}
+
+	/**
+	 * Drops the contributing plug-ins of the given extension points. Called by
+	 * the registry strategy once contributions are added or removed, registry
+	 * change events are only dispatched later by a job. Plug-ins computed
+	 * concurrently are not indexed.
+	 *
+	 * @param pointIds the ids of the changed extension points, see
+	 *            {@link #getExtensionPointIds(IExtensionRegistry, IContributor)},
+	 *            or <code>null</code> to drop all of them
+	 */
+	void extensionPointsChanged(Collection<String> pointIds) {
+		synchronized (fExtensionPlugins) {
+			fIndexStamp.incrementAndGet();
+			if (pointIds == null) {
+				fExtensionPlugins.clear();
+			} else {
+				fExtensionPlugins.keySet().removeAll(pointIds);
+			}
+		}
 	}
 
 	// Methods to access data in Extension Registry
 
+	/**
+	 * Returns the plug-ins contributing extensions to the given extension
+	 * point. They are indexed by extension point, whether they are enabled is
+	 * checked on each call. The returned array must not be modified.
+	 *
+	 * @param pointId the extension point id
+	 * @param activeOnly whether to only return enabled plug-ins
+	 * @return the contributing plug-ins, or all plug-ins if the extension point
+	 *         is unknown
+	 */
 	public IPluginModelBase[] findExtensionPlugins(String pointId, boolean activeOnly) {
-		IExtensionPoint point = getExtensionPoint(pointId);
-		if (point == null) {
-			// if extension point for extension does not exist, search all plug-ins manually
-			return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
+		IPluginModelBase[] plugins = fExtensionPlugins.get(pointId);
+		if (plugins == null) {
+			long stamp = fIndexStamp.get();
+			IExtensionPoint point = getExtensionPoint(pointId);
+			if (point == null) {
+				// if extension point for extension does not exist, search all plug-ins manually
+				return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
+			}
+			IExtension[] exts = point.getExtensions();
+			Set<IPluginModelBase> all = new LinkedHashSet<>();
+			for (IExtension ext : exts) {
+				IPluginModelBase base = getPlugin(ext.getContributor(), false);
+				if (base != null) {
+					all.add(base);
+				}
+			}
+			plugins = all.toArray(new IPluginModelBase[all.size()]);
+			synchronized (fExtensionPlugins) {
+				if (fIndexStamp.get() == stamp) {
+					fExtensionPlugins.put(pointId, plugins);
+				}
+			}
+		}
+		if (!activeOnly) {
+			return plugins;
 		}
-		IExtension[] exts = point.getExtensions();
-		HashSet<IPluginModelBase> plugins = new HashSet<>();
-		for (IExtension ext : exts) {
-			IPluginModelBase base = getPlugin(ext.getContributor(), false);
-			if (base != null && !plugins.contains(base) && (!activeOnly || base.isEnabled())) {
-				plugins.add(base);
+		ArrayList<IPluginModelBase> active = new ArrayList<>(plugins.length);
+		for (IPluginModelBase base : plugins) {
+			if (base.isEnabled()) {
+				active.add(base);
 			}
 		}
-		return plugins.toArray(new IPluginModelBase[plugins.size()]);
+		return active.toArray(new IPluginModelBase[active.size()]);
 	}
 
 	/*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,12 @@
 package org.eclipse.pde.internal.core;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.Collection;
 
 import javax.xml.parsers.SAXParserFactory;
 
@@ -97,7 +97,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 						IContributor[] contributors = registry.getAllContributors();
 						for (IContributor contributor : contributors) {
 							if (entry.getId().equals(contributor.getName())) {
-								registry.removeContributor(contributor, fKey);
+								removeContributor(fRegistry, contributor);
 								break;
 							}
 						}
@@ -222,34 +222,37 @@ public class PDERegistryStrategy extends RegistryStrategy {
 					registry.addContribution(is, contributor, true, input.getPath(), null, fKey);
 				}
 			} else {
-				// Archived bundle, need to extract the file
-				try (ZipFile jfile = new ZipFile(input, ZipFile.OPEN_READ)) {
-					String fileName = (base.isFragmentModel()) ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
-							: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
-					ZipEntry entry = jfile.getEntry(fileName);
-					if (entry != null) {
-						try (InputStream is = jfile.getInputStream(entry)) {
-							if (is != null) {
-								registry.addContribution(new BufferedInputStream(is), contributor, true,
-										input.getPath(), null, fKey);
-							}
-						}
-					}
+				// Archived bundle, the file is only extracted again if the archive changed
+				String fileName = (base.isFragmentModel()) ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
+						: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
+				byte[] contents = PDECore.getDefault().getExtensionFileCache().getExtensionFile(input,
+						fileName);
+				if (contents != null) {
+					registry.addContribution(new ByteArrayInputStream(contents), contributor, true, input.getPath(),
+							null, fKey);
 				}
 			}
 		} catch (IOException ignored) {
 		}
+		fPDERegistry.extensionPointsChanged(fPDERegistry.getExtensionPointIds(registry, contributor));
 	}
 
 	private void removeBundle(IExtensionRegistry registry, IPluginModelBase base) {
 		if (registry instanceof IDynamicExtensionRegistry) {
 			IContributor contributor = createContributor(base);
 			if (contributor != null && ((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
-				((IDynamicExtensionRegistry) registry).removeContributor(createContributor(base), fKey);
+				removeContributor(registry, contributor);
 			}
 		}
 	}
 
+	private void removeContributor(IExtensionRegistry registry, IContributor contributor) {
+		// the extension points are only known before the removal, the index is only dropped after it
+		Collection<String> pointIds = fPDERegistry.getExtensionPointIds(registry, contributor);
+		((IDynamicExtensionRegistry) registry).removeContributor(contributor, fKey);
+		fPDERegistry.extensionPointsChanged(pointIds);
+	}
+
 	//	added for releasing cached information from IPluginModelBase
 	//	private void resetModel(IPluginModelBase model) {
 	//		IPluginBase base = model.getPluginBase();
@@ -17,11 +17,20 @@ package org.eclipse.pde.internal.core;
 import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,6 +39,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -57,11 +67,27 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, null, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs. The
+	 * manifests of bundles that did not change since the given snapshot was
+	 * last saved are restored from it instead of being read from the bundle.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param snapshot snapshot of a previous state of the same target, may be <code>null</code>
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, TargetStateSnapshot snapshot,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		// The resolved state itself is always created anew, only the manifests are restored
+		createNewTargetState(addResolver, target, snapshot, monitor);
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -76,7 +102,8 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	private void createNewTargetState(boolean resolve, URI[] uris, TargetStateSnapshot snapshot,
+			IProgressMonitor monitor) {
 		fState = stateObjectFactory.createState(resolve);
 		if (resolve) {
 			final String systemBSN = getSystemBundle();
@@ -87,21 +114,107 @@ public class PDEState extends MinimalState {
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
 				uris.length);
+		List<File> files = new ArrayList<>(uris.length);
 		for (URI uri : uris) {
 			File file = toFile(uri);
-			if (file == null) {
-				continue;
+			if (file != null) {
+				files.add(file);
 			}
-			try {
+		}
+
+		// Manifests are read in parallel, but bundles are added to the state
+		// one after the other in target order so that bundle ids are stable
+		long start = System.currentTimeMillis();
+		int threads = getReaderThreadCount(files.size());
+		ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "PDE Target State Manifest Reader"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}) : null;
+		Deque<Future<ManifestResult>> pending = new ArrayDeque<>();
+		long insertTime = 0;
+		try {
+			int next = 0;
+			for (File file : files) {
+				// keep a bounded number of manifests read ahead
+				while (next < files.size() && (executor == null ? pending.isEmpty() : pending.size() < threads * 4)) {
+					File toRead = files.get(next++);
+					pending.add(executor == null ? CompletableFuture.completedFuture(readManifest(toRead, snapshot))
+							: executor.submit(() -> readManifest(toRead, snapshot)));
+				}
+				ManifestResult result = getResult(pending.poll());
 				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+				long insertStart = System.nanoTime();
+				try {
+					if (result.error() != null) {
+						throw result.error();
+					}
+					addBundle(file, -1, result.manifest());
+				} catch (CoreException e) {
+					if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+						PDECore.log(e);
+					}
 				}
+				insertTime += System.nanoTime() - insertStart;
+				subMonitor.split(1);
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
 			}
-			subMonitor.split(1);
 		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Read " + files.size() + " target bundles with " + Math.max(threads, 1) //$NON-NLS-1$ //$NON-NLS-2$
+					+ " threads in " + (System.currentTimeMillis() - start) + " ms, adding them to the state took " //$NON-NLS-1$ //$NON-NLS-2$
+					+ TimeUnit.NANOSECONDS.toMillis(insertTime) + " ms"); //$NON-NLS-1$
+		}
+		if (snapshot != null) {
+			snapshot.save();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Target state snapshot: " + snapshot.getHits() + " bundles restored, " //$NON-NLS-1$ //$NON-NLS-2$
+						+ snapshot.getMisses() + " bundles read"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Outcome of reading the manifest of one target bundle.
+	 */
+	private record ManifestResult(Map<String, String> manifest, CoreException error) {
+	}
+
+	private static ManifestResult readManifest(File file, TargetStateSnapshot snapshot) {
+		try {
+			Map<String, String> manifest = snapshot != null ? snapshot.loadManifest(file)
+					: ManifestUtils.loadManifest(file);
+			return new ManifestResult(manifest, null);
+		} catch (CoreException e) {
+			return new ManifestResult(null, e);
+		}
+	}
+
+	private static ManifestResult getResult(Future<ManifestResult> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			// readManifest() does not throw, only unexpected runtime errors end here
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Returns the number of threads used to read target manifests as
+	 * configured by {@link ICoreConstants#TARGET_STATE_READER_THREADS}.
+	 */
+	private static int getReaderThreadCount(int bundleCount) {
+		int threads = PDECore.getDefault().getPreferencesManager().getInt(ICoreConstants.TARGET_STATE_READER_THREADS);
+		if (threads < 1) {
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+		return Math.min(threads, bundleCount);
 	}
 
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -31,7 +33,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -60,9 +64,12 @@ import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetHandle;
+import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.natures.PluginProject;
+import org.eclipse.pde.internal.core.project.PDEProject;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.osgi.resource.Resource;
 
@@ -80,6 +87,11 @@ public class PluginModelManager implements IModelProviderListener {
 		private final List<IJavaProject> fProjects = new ArrayList<>();
 		private final List<IClasspathContainer> fContainers = new ArrayList<>();
 
+		/**
+		 * The containers last applied by this job, only accessed by the job
+		 */
+		private final Map<IJavaProject, IClasspathContainer> fApplied = new HashMap<>();
+
 		/**
 		 * Constructs a new job.
 		 */
@@ -102,7 +114,27 @@ public class PluginModelManager implements IModelProviderListener {
 						fProjects.clear();
 						fContainers.clear();
 					}
-					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
+					List<IJavaProject> changedProjects = new ArrayList<>(projects.length);
+					List<IClasspathContainer> changedContainers = new ArrayList<>(containers.length);
+					for (int i = 0; i < projects.length; i++) {
+						if (!isUnchanged(projects[i], containers[i])) {
+							changedProjects.add(projects[i]);
+							changedContainers.add(containers[i]);
+						}
+					}
+					if (PDECore.DEBUG_CLASSPATH) {
+						System.out.println("Skipping " + (projects.length - changedProjects.size()) + " of " //$NON-NLS-1$ //$NON-NLS-2$
+								+ projects.length + " classpath container updates with unchanged entries"); //$NON-NLS-1$
+					}
+					if (!changedProjects.isEmpty()) {
+						JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+								changedProjects.toArray(new IJavaProject[changedProjects.size()]),
+								changedContainers.toArray(new IClasspathContainer[changedContainers.size()]), monitor);
+						for (int i = 0; i < changedProjects.size(); i++) {
+							fApplied.put(changedProjects.get(i), changedContainers.get(i));
+						}
+					}
+					fApplied.keySet().removeIf(project -> !project.getProject().isOpen());
 					synchronized (fProjects) {
 						more = !fProjects.isEmpty();
 					}
@@ -114,6 +146,26 @@ public class PluginModelManager implements IModelProviderListener {
 			return Status.OK_STATUS;
 		}
 
+		/**
+		 * Returns if the given container has the same entries as the container
+		 * this job last applied to the given project, and if that container is
+		 * still the one of the project. Setting a container with the same
+		 * entries again would only make JDT rebuild the project for nothing.
+		 * Entries are compared with their paths, access rules and extra
+		 * attributes.
+		 */
+		private boolean isUnchanged(IJavaProject project, IClasspathContainer container) throws JavaModelException {
+			IClasspathContainer applied = fApplied.get(project);
+			if (applied == null) {
+				return false;
+			}
+			if (JavaCore.getClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, project) != applied) {
+				// the container was set by someone else in the meantime
+				return false;
+			}
+			return applied == container || Arrays.equals(applied.getClasspathEntries(), container.getClasspathEntries());
+		}
+
 		/**
 		 * Queues more projects/containers.
 		 */
@@ -131,6 +183,21 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	private final UpdateClasspathsJob fUpdateJob = new UpdateClasspathsJob();
 
+	/**
+	 * The secondary dependencies declared in the build.properties of a
+	 * project, along with the modification stamp of the file they were read
+	 * from
+	 */
+	private record SecondaryDependencies(long stamp, Set<String> ids) {
+	}
+
+	/**
+	 * Secondary dependencies of the workspace plug-in projects, used to find
+	 * the projects affected by a state delta without parsing their
+	 * build.properties each time
+	 */
+	private final Map<IProject, SecondaryDependencies> fSecondaryDependencies = new ConcurrentHashMap<>();
+
 	/**
 	 * Subclass of ModelEntry
 	 * It adds methods that add/remove model from the entry.
@@ -314,6 +381,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 				changes, may be <code>null</code> to indicate the entire target has changed
 	 */
 	private void updateAffectedEntries(StateDelta delta) {
+		RequiredPluginsClasspathContainer.invalidateRules(delta);
 		Map<IJavaProject, RequiredPluginsClasspathContainer> map = new HashMap<>();
 		if (delta == null) {
 			// if the delta is null, then the entire target changed.
@@ -342,25 +410,34 @@ public class PluginModelManager implements IModelProviderListener {
 					}
 				}
 			}
-			// do secondary dependencies
+			// do secondary dependencies, only for the plug-ins that have a secondary
+			// dependency on a changed bundle or on one of its dependents
+			Set<String> affected = getAffectedBundles(deltas);
+			int direct = map.size();
+			Set<IProject> projects = new HashSet<>();
 			IPluginModelBase[] models = getWorkspaceModels();
 			for (IPluginModelBase model : models) {
 				IProject project = model.getUnderlyingResource().getProject();
 				if (!PluginProject.isJavaProject(project)) {
 					continue;
 				}
+				projects.add(project);
 				IJavaProject jProject = JavaCore.create(project);
 				if (map.containsKey(jProject)) {
 					continue;
 				}
-				try {
-					IBuild build = ClasspathUtilCore.getBuild(model);
-					if (build != null && build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES) != null) {
-						map.put(jProject, new RequiredPluginsClasspathContainer(model, build, project));
-					}
-				} catch (CoreException e) {
+				Set<String> ids = getSecondaryDependencies(model, project);
+				if (!Collections.disjoint(ids, affected)) {
+					map.put(jProject, new RequiredPluginsClasspathContainer(model, project));
 				}
 			}
+			fSecondaryDependencies.keySet().retainAll(projects);
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Refreshing " + map.size() + " of " + projects.size() //$NON-NLS-1$ //$NON-NLS-2$
+						+ " classpath containers for " + deltas.length + " changed bundles, " + affected.size() //$NON-NLS-1$ //$NON-NLS-2$
+						+ " bundles affected (" + direct + " direct, " + (map.size() - direct) //$NON-NLS-1$ //$NON-NLS-2$
+						+ " through secondary dependencies)"); //$NON-NLS-1$
+			}
 		}
 
 		if (!map.isEmpty()) {
@@ -372,6 +449,68 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Returns the symbolic names of the bundles of the given deltas and of all
+	 * the bundles transitively depending on them. A bundle depends on another
+	 * one if it requires it, imports one of its packages or is a fragment of
+	 * it, the hosts of changed fragments are affected as well.
+	 *
+	 * @param deltas the bundle deltas of a state delta
+	 * @return the symbolic names of the affected bundles
+	 */
+	private static Set<String> getAffectedBundles(BundleDelta[] deltas) {
+		Set<String> affected = new HashSet<>();
+		Set<BundleDescription> visited = new HashSet<>();
+		List<BundleDescription> queue = new ArrayList<>();
+		for (BundleDelta bundleDelta : deltas) {
+			queue.add(bundleDelta.getBundle());
+		}
+		while (!queue.isEmpty()) {
+			BundleDescription bundle = queue.remove(queue.size() - 1);
+			if (bundle == null || !visited.add(bundle)) {
+				continue;
+			}
+			if (bundle.getSymbolicName() != null) {
+				affected.add(bundle.getSymbolicName());
+			}
+			Collections.addAll(queue, bundle.getDependents());
+			HostSpecification host = bundle.getHost();
+			if (host != null && host.getHosts() != null) {
+				Collections.addAll(queue, host.getHosts());
+			}
+		}
+		return affected;
+	}
+
+	/**
+	 * Returns the secondary dependencies declared in the build.properties of
+	 * the given project. The file is only parsed again when it has been
+	 * modified since it was last read.
+	 *
+	 * @param model the plug-in model of the project
+	 * @param project the project
+	 * @return the symbolic names of the secondary dependencies, may be empty
+	 */
+	private Set<String> getSecondaryDependencies(IPluginModelBase model, IProject project) {
+		IFile file = PDEProject.getBuildProperties(project);
+		long stamp = file.exists() ? file.getModificationStamp() : IResource.NULL_STAMP;
+		SecondaryDependencies dependencies = fSecondaryDependencies.get(project);
+		if (dependencies != null && dependencies.stamp() == stamp) {
+			return dependencies.ids();
+		}
+		Set<String> ids = Collections.emptySet();
+		try {
+			IBuild build = ClasspathUtilCore.getBuild(model);
+			IBuildEntry entry = build == null ? null : build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES);
+			if (entry != null) {
+				ids = Set.copyOf(List.of(entry.getTokens()));
+			}
+		} catch (CoreException e) {
+		}
+		fSecondaryDependencies.put(project, new SecondaryDependencies(stamp, ids));
+		return ids;
+	}
+
 	/**
 	 * Notify all interested listeners in changes made to the master table
 	 *
@@ -575,7 +714,7 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		fState = new PDEState(externalUris, true, true, getTargetStateSnapshot(), subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -681,6 +820,25 @@ public class PluginModelManager implements IModelProviderListener {
 
 	}
 
+	/**
+	 * Returns the snapshot of the manifests of the workspace target so that
+	 * unchanged target bundles need not be read again.
+	 *
+	 * @return snapshot of the workspace target state
+	 */
+	private TargetStateSnapshot getTargetStateSnapshot() {
+		ITargetHandle handle = null;
+		try {
+			ITargetPlatformService service = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+			if (service != null) {
+				handle = service.getWorkspaceTargetHandle();
+			}
+		} catch (CoreException e) {
+			PDECore.log(e);
+		}
+		return TargetStateSnapshot.forTarget(handle);
+	}
+
 	/**
 	 * Adds the given models to the corresponding ModelEntry in the master table
 	 *
@@ -78,5 +78,6 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		corePrefs.setDefault(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
 		corePrefs.setDefault(ICoreConstants.ADD_SWT_NON_DISPOSAL_REPORTING, true);
 		corePrefs.setDefault(ICoreConstants.TEST_PLUGIN_PATTERN, ICoreConstants.TEST_PLUGIN_PATTERN_DEFAULTVALUE);
+		corePrefs.setDefault(ICoreConstants.TARGET_STATE_READER_THREADS, 0);
 	}
 }
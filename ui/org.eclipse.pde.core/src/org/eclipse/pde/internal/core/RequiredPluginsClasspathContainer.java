@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
@@ -45,11 +46,13 @@ import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BaseDescription;
+import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.BundleSpecification;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.pde.core.IClasspathContributor;
 import org.eclipse.pde.core.build.IBuild;
@@ -93,6 +96,27 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	 */
 	private static List<IClasspathContributor> fClasspathContributors;
 
+	/**
+	 * Access rules of the packages exported by a bundle of the state, along
+	 * with the rule lists built from them. They do not depend on the container
+	 * they are computed for, so they are shared by all containers.
+	 */
+	private static final class ExportRules {
+		/**
+		 * The accessible and the discouraged rule of each exported package
+		 */
+		final Map<ExportPackageDescription, Rule[]> rules = new ConcurrentHashMap<>();
+		/**
+		 * Interned lists of rules of the exported packages
+		 */
+		final Map<List<Rule>, List<Rule>> lists = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Access rules by exporting bundle, see {@link #invalidateRules(StateDelta)}
+	 */
+	private static final Map<BundleDescription, ExportRules> EXPORT_RULES = new ConcurrentHashMap<>();
+
 	private final IProject project;
 
 	/**
@@ -320,6 +344,9 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 		if (desc.getHost() != null) {
 			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
 		}
+		// containers requiring the same packages of an exporter share its list
+		visiblePackages.replaceAll((exporter, rules) -> getExportRules(exporter).lists
+				.computeIfAbsent(List.copyOf(rules), r -> r));
 		return visiblePackages;
 	}
 
@@ -344,9 +371,33 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 
 	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
 		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
-		String name = export.getName();
-		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		return new Rule(path, discouraged);
+		Rule[] rules = getExportRules(export.getExporter()).rules.computeIfAbsent(export, e -> {
+			String name = e.getName();
+			IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return new Rule[] { new Rule(path, false), new Rule(path, true) };
+		});
+		return rules[discouraged ? 1 : 0];
+	}
+
+	private static ExportRules getExportRules(BundleDescription exporter) {
+		return EXPORT_RULES.computeIfAbsent(exporter, e -> new ExportRules());
+	}
+
+	/**
+	 * Drops the access rules of the bundles changed by the given state delta.
+	 * All rules are dropped if the delta is <code>null</code>, which means the
+	 * entire state has changed.
+	 *
+	 * @param delta the state delta, may be <code>null</code>
+	 */
+	static void invalidateRules(StateDelta delta) {
+		if (delta == null) {
+			EXPORT_RULES.clear();
+			return;
+		}
+		for (BundleDelta bundleDelta : delta.getChanges()) {
+			EXPORT_RULES.remove(bundleDelta.getBundle());
+		}
 	}
 
 	protected void addDependencyViaImportPackage(BundleDescription desc, Set<BundleDescription> added,
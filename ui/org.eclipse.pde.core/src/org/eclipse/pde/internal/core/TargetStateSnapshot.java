@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.core.target.ITargetHandle;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.eclipse.pde.internal.core.util.UtilMessages;
+
+/**
+ * On-disk snapshot of the bundle manifests that made up a target state. Every
+ * entry is keyed by the bundle location and fingerprinted with the size and
+ * modification time of the bundle archive, or for directory bundles of the
+ * manifest file or, if there is none, of the plugin.xml or fragment.xml. When a {@link PDEState} is created for the same target
+ * again, manifests of unchanged bundles are restored from the snapshot instead
+ * of opening the bundle, and only changed or added bundles are re-read.
+ * <p>
+ * Since the auxiliary plug-in information kept by {@link PDEAuxiliaryState} is
+ * derived from the manifest headers, it is restored along with them.
+ * </p>
+ * <p>
+ * The snapshot file records the target it was taken of and is discarded if it
+ * is read for another target. Every target has its own snapshot, so switching
+ * back to a previous target is fast as well. Only the
+ * {@value #MAX_SNAPSHOTS} most recently used snapshots are kept.
+ * </p>
+ * <p>
+ * Lookups are thread safe so that manifests may be read concurrently.
+ * </p>
+ */
+public class TargetStateSnapshot {
+
+	private static final int MAGIC = 0x50444553; // "PDES"
+	private static final int VERSION = 2;
+
+	private static final String SNAPSHOT_EXTENSION = ".snapshot"; //$NON-NLS-1$
+	private static final String DEFAULT_SNAPSHOT = "default"; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of snapshots kept in the snapshot directory
+	 */
+	static final int MAX_SNAPSHOTS = 8;
+
+	private static final IPath SNAPSHOT_LOCATION = PDECore.getDefault().getStateLocation().append(".target_snapshots"); //$NON-NLS-1$
+
+	/**
+	 * Fingerprinted manifest of one bundle location. A <code>null</code>
+	 * manifest records that the location is not a bundle.
+	 */
+	private record Entry(long size, long lastModified, Map<String, String> manifest) {
+	}
+
+	private final File fFile;
+	private final String fTarget;
+	private final Map<String, Entry> fRestored;
+	private final Map<String, Entry> fCurrent = new ConcurrentHashMap<>();
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	/**
+	 * Creates a snapshot backed by the given file, restoring any previously
+	 * saved content from it if it was taken of the same target.
+	 *
+	 * @param file the snapshot file, need not exist
+	 * @param target identity of the target, such as the memento of its handle
+	 */
+	public TargetStateSnapshot(File file, String target) {
+		fFile = file;
+		fTarget = target;
+		fRestored = read(file, target);
+	}
+
+	/**
+	 * Returns the snapshot for the given target, or for the default target if
+	 * the handle is <code>null</code>.
+	 *
+	 * @param handle target handle or <code>null</code>
+	 * @return the snapshot used for the target
+	 */
+	public static TargetStateSnapshot forTarget(ITargetHandle handle) {
+		String target = DEFAULT_SNAPSHOT;
+		String name = DEFAULT_SNAPSHOT;
+		if (handle != null) {
+			try {
+				target = handle.getMemento();
+				name = UUID.nameUUIDFromBytes(target.getBytes(StandardCharsets.UTF_8)).toString();
+			} catch (CoreException e) {
+				PDECore.log(e);
+			}
+		}
+		return new TargetStateSnapshot(SNAPSHOT_LOCATION.append(name + SNAPSHOT_EXTENSION).toFile(), target);
+	}
+
+	/**
+	 * Returns the manifest headers of the bundle at the given location. The
+	 * headers are restored from the snapshot if the bundle is unchanged,
+	 * otherwise they are loaded using {@link ManifestUtils#loadManifest(File)}
+	 * and recorded. The returned map is a private copy that may be modified by
+	 * the caller.
+	 *
+	 * @param bundleLocation root location of the bundle
+	 * @return map of bundle manifest headers
+	 * @throws CoreException if the location is not a bundle or the manifest
+	 *             could not be read
+	 */
+	public Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		String key = bundleLocation.getAbsolutePath();
+		File fingerprinted = bundleLocation.isDirectory() ? getDescriptor(bundleLocation) : bundleLocation;
+		long size = fingerprinted.length();
+		long lastModified = fingerprinted.lastModified();
+
+		Entry entry = fRestored.get(key);
+		if (entry != null && entry.size() == size && entry.lastModified() == lastModified) {
+			fHits.incrementAndGet();
+			fCurrent.put(key, entry);
+			if (entry.manifest() == null) {
+				throw new CoreException(new Status(IStatus.ERROR, PDECore.PLUGIN_ID,
+						ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST,
+						NLS.bind(UtilMessages.ErrorReadingManifest, key), null));
+			}
+			return copyOf(entry.manifest());
+		}
+
+		fMisses.incrementAndGet();
+		try {
+			Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+			fCurrent.put(key, new Entry(size, lastModified, copyOf(manifest)));
+			return manifest;
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() == ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				fCurrent.put(key, new Entry(size, lastModified, null));
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the file that describes the given directory bundle: its manifest
+	 * or, for plug-ins without one, its plugin.xml or fragment.xml. If none
+	 * exists the manifest is returned, so that adding it is noticed.
+	 */
+	private static File getDescriptor(File bundleDirectory) {
+		File manifest = new File(bundleDirectory, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR);
+		if (manifest.isFile()) {
+			return manifest;
+		}
+		for (String descriptor : new String[] { ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR,
+				ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR }) {
+			File file = new File(bundleDirectory, descriptor);
+			if (file.isFile()) {
+				return file;
+			}
+		}
+		return manifest;
+	}
+
+	/**
+	 * @return number of bundles restored from the snapshot since creation
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return number of bundles that had to be read since creation
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * Writes the entries of all bundles looked up since creation to disk,
+	 * along with the restored entries of bundles that were not looked up but
+	 * still exist. Nothing is written if the content did not change. The least
+	 * recently used snapshots of other targets are deleted if there are more
+	 * than {@value #MAX_SNAPSHOTS}.
+	 */
+	public void save() {
+		File parent = fFile.getParentFile();
+		Map<String, Entry> entries = new HashMap<>(fCurrent);
+		fRestored.forEach((location, entry) -> {
+			if (!entries.containsKey(location) && new File(location).exists()) {
+				entries.put(location, entry);
+			}
+		});
+		if (fMisses.get() == 0 && entries.size() == fRestored.size()) {
+			// unchanged, but used
+			fFile.setLastModified(System.currentTimeMillis());
+			deleteLeastRecentlyUsedSnapshots(parent);
+			return;
+		}
+		try {
+			if (parent != null) {
+				Files.createDirectories(parent.toPath());
+			}
+			File tmp = new File(parent, fFile.getName() + ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				writeString(out, fTarget);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> e : entries.entrySet()) {
+					Entry entry = e.getValue();
+					writeString(out, e.getKey());
+					out.writeLong(entry.size());
+					out.writeLong(entry.lastModified());
+					Map<String, String> manifest = entry.manifest();
+					if (manifest == null) {
+						out.writeInt(-1);
+						continue;
+					}
+					out.writeInt(manifest.size());
+					for (Map.Entry<String, String> header : manifest.entrySet()) {
+						writeString(out, header.getKey());
+						writeString(out, header.getValue());
+					}
+				}
+			}
+			Files.move(tmp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			PDECore.log(Status.warning("Unable to save target state snapshot " + fFile, e)); //$NON-NLS-1$
+		}
+		deleteLeastRecentlyUsedSnapshots(parent);
+	}
+
+	/**
+	 * Deletes the least recently used snapshots of other targets in the given
+	 * directory so that at most {@value #MAX_SNAPSHOTS} remain.
+	 */
+	private void deleteLeastRecentlyUsedSnapshots(File directory) {
+		File[] others = directory == null ? null
+				: directory.listFiles((dir, name) -> name.endsWith(SNAPSHOT_EXTENSION) && !name.equals(fFile.getName()));
+		if (others == null || others.length < MAX_SNAPSHOTS) {
+			return;
+		}
+		Arrays.sort(others, Comparator.comparingLong(File::lastModified).reversed());
+		for (int i = MAX_SNAPSHOTS - 1; i < others.length; i++) {
+			if (others[i].delete() && PDECore.DEBUG_MODEL) {
+				System.out.println("Deleted least recently used target state snapshot " + others[i]); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private static Map<String, Entry> read(File file, String target) {
+		if (!file.isFile()) {
+			return Collections.emptyMap();
+		}
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return Collections.emptyMap();
+			}
+			if (!target.equals(readString(in))) {
+				// taken of another target whose name collides
+				return Collections.emptyMap();
+			}
+			int count = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(count * 4 / 3 + 1);
+			for (int i = 0; i < count; i++) {
+				String location = readString(in);
+				long size = in.readLong();
+				long lastModified = in.readLong();
+				int headers = in.readInt();
+				Map<String, String> manifest = null;
+				if (headers >= 0) {
+					manifest = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+					for (int j = 0; j < headers; j++) {
+						manifest.put(readString(in), readString(in));
+					}
+				}
+				entries.put(location, new Entry(size, lastModified, manifest));
+			}
+			return entries;
+		} catch (IOException e) {
+			// a corrupt snapshot is simply discarded and rebuilt
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Discarding unreadable target state snapshot " + file + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Manifest headers are case insensitive, so is the copy.
+	 */
+	private static Map<String, String> copyOf(Map<String, String> manifest) {
+		Map<String, String> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		copy.putAll(manifest);
+		return copy;
+	}
+
+	/**
+	 * Unlike {@link DataOutputStream#writeUTF(String)} this has no 64K limit,
+	 * which large Export-Package headers can exceed.
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
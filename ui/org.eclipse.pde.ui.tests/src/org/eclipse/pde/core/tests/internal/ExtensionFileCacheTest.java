@@ -0,0 +1,169 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.pde.internal.core.ExtensionFileCache;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the {@link ExtensionFileCache} only opens archives that changed
+ * since their extension file was cached.
+ */
+public class ExtensionFileCacheTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static final String PLUGIN_XML = ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
+	private static final String MANIFEST = "Manifest-Version: 1.0\n";
+
+	private File cacheDirectory;
+
+	@Before
+	public void setUp() throws IOException {
+		cacheDirectory = folder.newFolder("cache");
+	}
+
+	@Test
+	public void testHitOnUnchangedArchive() throws IOException {
+		File archive = createArchive("a.jar", Map.of(PLUGIN_XML, plugin("a")));
+		ExtensionFileCache cache = new ExtensionFileCache(cacheDirectory);
+
+		assertArrayEquals(plugin("a"), cache.getExtensionFile(archive, PLUGIN_XML));
+		assertArrayEquals(plugin("a"), cache.getExtensionFile(archive, PLUGIN_XML));
+		assertCounts(cache, 1, 1);
+	}
+
+	@Test
+	public void testMissAfterArchiveRewritten() throws IOException {
+		File archive = createArchive("a.jar", Map.of(PLUGIN_XML, plugin("a")));
+		ExtensionFileCache cache = new ExtensionFileCache(cacheDirectory);
+		assertArrayEquals(plugin("a"), cache.getExtensionFile(archive, PLUGIN_XML));
+
+		long lastModified = archive.lastModified();
+		createArchive("a.jar", Map.of(PLUGIN_XML, plugin("a.changed")));
+		archive.setLastModified(lastModified + 2000);
+
+		assertArrayEquals(plugin("a.changed"), cache.getExtensionFile(archive, PLUGIN_XML));
+		assertArrayEquals(plugin("a.changed"), cache.getExtensionFile(archive, PLUGIN_XML));
+		assertCounts(cache, 1, 2);
+	}
+
+	@Test
+	public void testArchiveWithoutExtensionFile() throws IOException {
+		File archive = createArchive("a.jar", Map.of("META-INF/MANIFEST.MF", MANIFEST.getBytes(StandardCharsets.UTF_8)));
+		ExtensionFileCache cache = new ExtensionFileCache(cacheDirectory);
+
+		assertNull(cache.getExtensionFile(archive, PLUGIN_XML));
+		assertNull(cache.getExtensionFile(archive, PLUGIN_XML));
+		assertCounts(cache, 1, 1);
+
+		cache.save();
+		cache = new ExtensionFileCache(cacheDirectory);
+		assertNull(cache.getExtensionFile(archive, PLUGIN_XML));
+		assertCounts(cache, 1, 0);
+	}
+
+	@Test
+	public void testReloadFromSavedIndex() throws IOException {
+		File a = createArchive("a.jar", Map.of(PLUGIN_XML, plugin("a")));
+		File b = createArchive("b.jar", Map.of(ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR, plugin("b")));
+		ExtensionFileCache cache = new ExtensionFileCache(cacheDirectory);
+		cache.getExtensionFile(a, PLUGIN_XML);
+		cache.getExtensionFile(b, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR);
+		cache.save();
+
+		cache = new ExtensionFileCache(cacheDirectory);
+		assertArrayEquals(plugin("a"), cache.getExtensionFile(a, PLUGIN_XML));
+		assertArrayEquals(plugin("b"), cache.getExtensionFile(b, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR));
+		assertCounts(cache, 2, 0);
+
+		// an archive that no longer exists is dropped along with its cache file
+		Files.delete(b.toPath());
+		cache.getExtensionFile(createArchive("c.jar", Map.of(PLUGIN_XML, plugin("c"))), PLUGIN_XML);
+		cache.save();
+		assertEquals(2, cacheDirectory.listFiles((dir, name) -> name.endsWith(".xml")).length);
+	}
+
+	@Test
+	public void testCacheFileDeleted() throws IOException {
+		File archive = createArchive("a.jar", Map.of(PLUGIN_XML, plugin("a")));
+		ExtensionFileCache cache = new ExtensionFileCache(cacheDirectory);
+		cache.getExtensionFile(archive, PLUGIN_XML);
+		cache.save();
+		deleteCacheFiles();
+
+		assertArrayEquals(plugin("a"), cache.getExtensionFile(archive, PLUGIN_XML));
+		assertCounts(cache, 0, 2);
+
+		cache.save();
+		deleteCacheFiles();
+		cache = new ExtensionFileCache(cacheDirectory);
+		assertArrayEquals(plugin("a"), cache.getExtensionFile(archive, PLUGIN_XML));
+		assertArrayEquals(plugin("a"), cache.getExtensionFile(archive, PLUGIN_XML));
+		assertCounts(cache, 1, 1);
+	}
+
+	private void deleteCacheFiles() throws IOException {
+		File[] files = cacheDirectory.listFiles((dir, name) -> name.endsWith(".xml"));
+		assertFalse(files.length == 0);
+		for (File file : files) {
+			Files.delete(file.toPath());
+		}
+	}
+
+	private static void assertCounts(ExtensionFileCache cache, int hits, int misses) {
+		assertEquals("hits", hits, cache.getHits());
+		assertEquals("misses", misses, cache.getMisses());
+	}
+
+	private static byte[] plugin(String point) {
+		return """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<plugin>
+				<extension point="%s"/>
+				</plugin>
+				""".formatted(point).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private File createArchive(String name, Map<String, byte[]> entries) throws IOException {
+		File archive = new File(folder.getRoot(), name);
+		try (OutputStream out = Files.newOutputStream(archive.toPath()); ZipOutputStream zip = new ZipOutputStream(out)) {
+			for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+				zip.putNextEntry(new ZipEntry(entry.getKey()));
+				zip.write(entry.getValue());
+				zip.closeEntry();
+			}
+		}
+		return archive;
+	}
+
+}
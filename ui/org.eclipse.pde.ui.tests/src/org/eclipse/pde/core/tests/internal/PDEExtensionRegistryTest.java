@@ -0,0 +1,128 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the contributing plug-ins indexed by
+ * {@link PDEExtensionRegistry#findExtensionPlugins(String, boolean)} follow
+ * the changes of the workspace plug-ins.
+ */
+public class PDEExtensionRegistryTest {
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static final String POINT_ID = "registry.host.point";
+
+	@Test
+	public void testFindExtensionPlugins_contributorAddedAndRemoved() throws CoreException {
+		createPlugin("registry.host", """
+				<extension-point id="point" name="Point"/>
+				""");
+		createPlugin("registry.a", extension());
+		assertExtensionPlugins(Set.of("registry.a"), false);
+		assertExtensionPlugins(Set.of("registry.a"), true);
+
+		IProject b = createPlugin("registry.b", extension());
+		assertExtensionPlugins(Set.of("registry.a", "registry.b"), false);
+
+		b.delete(true, true, null);
+		awaitJobs();
+		assertExtensionPlugins(Set.of("registry.a"), false);
+		assertExtensionPlugins(Set.of("registry.a"), true);
+	}
+
+	@Test
+	public void testFindExtensionPlugins_extensionRemoved() throws CoreException {
+		createPlugin("registry.host", """
+				<extension-point id="point" name="Point"/>
+				""");
+		IProject a = createPlugin("registry.a", extension());
+		assertExtensionPlugins(Set.of("registry.a"), false);
+
+		writePluginXml(a, "");
+		awaitJobs();
+		assertExtensionPlugins(Set.of(), false);
+
+		writePluginXml(a, extension());
+		awaitJobs();
+		assertExtensionPlugins(Set.of("registry.a"), false);
+	}
+
+	private static String extension() {
+		return """
+				<extension point="%s"/>
+				""".formatted(POINT_ID);
+	}
+
+	private static IProject createPlugin(String id, String extensions) throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(id, id, "1.0.0",
+				(description, service) -> description.setSingleton(true));
+		writePluginXml(project, extensions);
+		awaitJobs();
+		return project;
+	}
+
+	private static void writePluginXml(IProject project, String extensions) throws CoreException {
+		String contents = """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				%s</plugin>
+				""".formatted(extensions);
+		IFile file = project.getFile("plugin.xml");
+		ByteArrayInputStream stream = new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, true, false, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+
+	private static void assertExtensionPlugins(Set<String> expected, boolean activeOnly) {
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		IPluginModelBase[] plugins = registry.findExtensionPlugins(POINT_ID, activeOnly);
+		Set<String> ids = Arrays.stream(plugins).map(plugin -> plugin.getPluginBase().getId())
+				.collect(Collectors.toSet());
+		assertEquals(expected, ids);
+	}
+
+	private static void awaitJobs() {
+		TestUtils.waitForJobs(PDEExtensionRegistryTest.class.getName(), 100, 10000);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,18 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.performance.parts;
 
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.TargetStateSnapshot;
+import org.eclipse.pde.ui.tests.PDETestCase;
+import org.eclipse.test.performance.Dimension;
 import org.eclipse.test.performance.PerformanceTestCase;
 
 public class PDEModelManagerPerfTest extends PerformanceTestCase {
@@ -33,4 +44,69 @@ public class PDEModelManagerPerfTest extends PerformanceTestCase {
 		commitMeasurements();
 		assertPerformance();
 	}
+
+	/**
+	 * Creates a target state without a snapshot of a previous load, so every
+	 * bundle manifest has to be read.
+	 */
+	public void testTargetStateColdLoad() throws Exception {
+		tagAsSummary("Create target state (cold)", Dimension.ELAPSED_PROCESS);
+		URI[] bundles = getTargetPerfTestBundles();
+		File snapshotFile = getSnapshotFile();
+
+		for (int i = 0; i < 3; i++) {
+			createState(bundles, snapshotFile, false);
+		}
+		for (int i = 0; i < 20; i++) {
+			Files.deleteIfExists(snapshotFile.toPath());
+			startMeasuring();
+			createState(bundles, snapshotFile, false);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Creates a target state from a snapshot of a previous load of the same
+	 * bundles, so no bundle manifest has to be read.
+	 */
+	public void testTargetStateWarmLoad() throws Exception {
+		tagAsSummary("Create target state (warm)", Dimension.ELAPSED_PROCESS);
+		URI[] bundles = getTargetPerfTestBundles();
+		File snapshotFile = getSnapshotFile();
+		Files.deleteIfExists(snapshotFile.toPath());
+		createState(bundles, snapshotFile, false);
+
+		for (int i = 0; i < 3; i++) {
+			createState(bundles, snapshotFile, true);
+		}
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			createState(bundles, snapshotFile, true);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void createState(URI[] bundles, File snapshotFile, boolean expectWarm) {
+		TargetStateSnapshot snapshot = new TargetStateSnapshot(snapshotFile, "perf");
+		PDEState state = new PDEState(bundles, true, true, snapshot, new NullProgressMonitor());
+		assertTrue(state.getTargetModels().length > 0);
+		if (expectWarm) {
+			assertEquals(0, snapshot.getMisses());
+		}
+	}
+
+	private static File getSnapshotFile() {
+		return PDETestCase.getThisBundlesStateLocation().resolve("perf.snapshot").toFile();
+	}
+
+	private static URI[] getTargetPerfTestBundles() throws Exception {
+		Path testBundles = TargetPlatformPerfTest.extractTargetPerfTestPlugins();
+		try (Stream<Path> children = Files.list(testBundles)) {
+			return children.map(Path::toUri).toArray(URI[]::new);
+		}
+	}
 }